@@ -0,0 +1,148 @@
+// AI 매니저 플로우 부하 테스트 (k6)
+//
+// 서버: ./mvnw spring-boot:test-run -Dspring-boot.run.profiles=h2,ai-stub
+//       (스텁 ChatModel과 ai-stub 프로파일은 src/test에만 있어 test-run으로 테스트 클래스패스를 띄운다)
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e RATE=20 -e DURATION=2m \
+//           -e ADMIN_EMAIL=admin@example.com -e ADMIN_PASSWORD=... loadtest/ai-flow.js
+//       (/actuator/** 는 ROLE_ADMIN 전용이라 풀 포화도 조회에는 관리자 계정이 필요하다.
+//        ADMIN_EMAIL을 주지 않으면 pool_probe는 조회 없이 대기만 한다)
+//
+// analyze(MANUAL) → judgment 를 목표 RPS(RATE, 초당 플로우 수)로 구동하고
+// 단계별 p50/p95/p99 지연, 처리량, Hikari 커넥션 풀 포화도(active/pending)를 보고한다.
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const RATE = Number(__ENV.RATE || 10);
+const DURATION = __ENV.DURATION || '1m';
+const USERS = Number(__ENV.USERS || 20);
+// 동일 입력 비율 (분석 캐시 적중을 흉내 낼 때 사용, 기본 0)
+const REPEAT_RATIO = Number(__ENV.REPEAT_RATIO || 0);
+const ADMIN_EMAIL = __ENV.ADMIN_EMAIL || '';
+const ADMIN_PASSWORD = __ENV.ADMIN_PASSWORD || '';
+
+const analyzeLatency = new Trend('ai_analyze_latency', true);
+const judgmentLatency = new Trend('ai_judgment_latency', true);
+const flowLatency = new Trend('ai_flow_latency', true);
+const flowsCompleted = new Counter('ai_flows_completed');
+const flowsFailed = new Counter('ai_flows_failed');
+const poolActive = new Trend('db_pool_active');
+const poolPending = new Trend('db_pool_pending');
+
+export const options = {
+    scenarios: {
+        ai_flow: {
+            executor: 'constant-arrival-rate',
+            exec: 'aiFlow',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(10, RATE * 2),
+            maxVUs: Math.max(50, RATE * 10),
+        },
+        pool_probe: {
+            executor: 'constant-vus',
+            exec: 'probePool',
+            vus: 1,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    const runId = Date.now();
+    const tokens = [];
+    for (let i = 0; i < USERS; i++) {
+        const email = `load-${runId}-${i}@example.com`;
+        const password = 'Test1234!@';
+        http.post(`${BASE_URL}/api/auth/signup`,
+            JSON.stringify({ email, password, nickname: `부하${i}` }), jsonParams());
+        const login = http.post(`${BASE_URL}/api/auth/login`,
+            JSON.stringify({ email, password }), jsonParams());
+        const token = login.headers['Authorization'];
+        if (token) {
+            tokens.push(token);
+        }
+    }
+    if (tokens.length === 0) {
+        throw new Error('로그인 토큰을 발급받지 못했습니다');
+    }
+    return { tokens, adminToken: adminLogin() };
+}
+
+function adminLogin() {
+    if (!ADMIN_EMAIL) {
+        return null;
+    }
+    const login = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ email: ADMIN_EMAIL, password: ADMIN_PASSWORD }), jsonParams());
+    const token = login.headers['Authorization'];
+    if (!token) {
+        throw new Error('관리자 로그인에 실패했습니다 (ADMIN_EMAIL / ADMIN_PASSWORD 확인)');
+    }
+    return token;
+}
+
+export function aiFlow(data) {
+    const token = data.tokens[(__VU + __ITER) % data.tokens.length];
+    const startedAt = Date.now();
+
+    const analyze = http.post(`${BASE_URL}/api/ai-manager/analyze`,
+        JSON.stringify(spendingRequest()), jsonParams(token));
+    analyzeLatency.add(analyze.timings.duration);
+    if (!check(analyze, { 'analyze 200': (r) => r.status === 200 })) {
+        flowsFailed.add(1, { stage: 'analyze', status: String(analyze.status) });
+        return;
+    }
+
+    const conversationId = analyze.json('data.conversationId');
+    const judgment = http.post(`${BASE_URL}/api/ai-manager/judgment`,
+        JSON.stringify({ conversationId, selectedExcuseId: 'STRESS', customExcuse: '' }), jsonParams(token));
+    judgmentLatency.add(judgment.timings.duration);
+    if (!check(judgment, { 'judgment 200': (r) => r.status === 200 })) {
+        flowsFailed.add(1, { stage: 'judgment', status: String(judgment.status) });
+        return;
+    }
+
+    flowLatency.add(Date.now() - startedAt);
+    flowsCompleted.add(1);
+}
+
+export function probePool(data) {
+    if (!data.adminToken) {
+        sleep(1);
+        return;
+    }
+    const params = jsonParams(data.adminToken);
+    const active = http.get(`${BASE_URL}/actuator/metrics/hikaricp.connections.active`, params);
+    const pending = http.get(`${BASE_URL}/actuator/metrics/hikaricp.connections.pending`, params);
+    if (active.status === 200) {
+        poolActive.add(active.json('measurements.0.value'));
+    }
+    if (pending.status === 200) {
+        poolPending.add(pending.json('measurements.0.value'));
+    }
+    sleep(1);
+}
+
+function spendingRequest() {
+    const repeat = Math.random() < REPEAT_RATIO;
+    return {
+        inputMode: 'MANUAL',
+        amount: repeat ? 4500 : 1000 + Math.floor(Math.random() * 200000),
+        storeName: repeat ? '스타벅스' : `가게-${Math.floor(Math.random() * 1e9)}`,
+        category: 'FOOD',
+        paymentDate: new Date().toISOString().slice(0, 10),
+        memo: '',
+    };
+}
+
+function jsonParams(token) {
+    const headers = { 'Content-Type': 'application/json' };
+    if (token) {
+        headers['Authorization'] = token.startsWith('Bearer ') ? token : `Bearer ${token}`;
+    }
+    return { headers, timeout: '120s' };
+}
@@ -0,0 +1,166 @@
+package com.jipjung.project.ai;
+
+import com.jipjung.project.ai.dto.AiAnalysisOutput;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 지출 분석 응답 캐시 (동등한 입력에 대한 Gemini 재호출 방지)
+ * <p>
+ * 키는 프롬프트에 영향을 주는 값을 정규화한 지문이다.
+ * <ul>
+ *   <li>카테고리</li>
+ *   <li>금액 버킷 (유효숫자 2자리 반올림: 4,500원과 4,520원은 같은 버킷)</li>
+ *   <li>가게명 (공백 제거 + 소문자)</li>
+ *   <li>메모</li>
+ * </ul>
+ * 결제일은 분석 결과에 영향이 없어 키에서 제외한다.
+ * 닉네임과 정확한 금액은 대사에 {nickname} / {amount} 자리표시자로 받아 조회 후 채우므로
+ * 키에 넣지 않는다 (다른 사용자의 같은 가게·비슷한 금액 지출도 적중).
+ * 대사에 숫자가 직접 들어간 응답은 다른 금액의 요청에 재사용하면 틀리므로 저장하지 않는다.
+ * TTL + 최대 크기 LRU, ai.analysis-cache.enabled=false로 즉시 우회한다.
+ */
+@Component
+@Slf4j
+public class AiAnalysisCache {
+
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Map<String, CachedAnalysis> lru;
+    private final Counter hits;
+    private final Counter misses;
+
+    public AiAnalysisCache(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            @Value("${ai.analysis-cache.enabled:true}") boolean enabled,
+            @Value("${ai.analysis-cache.ttl-minutes:30}") long ttlMinutes,
+            @Value("${ai.analysis-cache.max-size:2000}") int maxSize
+    ) {
+        this.clock = clock;
+        this.enabled = enabled;
+        this.ttl = Duration.ofMinutes(Math.max(1, ttlMinutes));
+        int capacity = Math.max(1, maxSize);
+        this.lru = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedAnalysis> eldest) {
+                return size() > capacity;
+            }
+        });
+        this.hits = Counter.builder("ai.analysis.cache.requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("ai.analysis.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("ai.analysis.cache.size", lru, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 분석 결과 조회 (없거나 만료면 empty)
+     */
+    public Optional<AiAnalysisOutput> get(AnalysisKey key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String fingerprint = key.fingerprint();
+        CachedAnalysis cached = lru.get(fingerprint);
+        if (cached == null || cached.expiresAt().isBefore(clock.instant())) {
+            if (cached != null) {
+                lru.remove(fingerprint);
+            }
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        log.debug("[AiCache] 분석 캐시 적중: {}", fingerprint);
+        return Optional.of(cached.output());
+    }
+
+    /**
+     * 분석 결과 저장 (대사에 숫자가 포함되어 금액 중립이 아니면 저장하지 않음)
+     */
+    public void put(AnalysisKey key, AiAnalysisOutput output) {
+        if (!enabled || output == null || !isAmountNeutral(output.script())) {
+            return;
+        }
+        lru.put(key.fingerprint(), new CachedAnalysis(output, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * 대사에 숫자가 없는지 (금액은 {amount} 자리표시자로만 언급해야 버킷 내 재사용이 안전함)
+     */
+    static boolean isAmountNeutral(String script) {
+        if (script == null) {
+            return true;
+        }
+        for (int i = 0; i < script.length(); i++) {
+            if (Character.isDigit(script.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record CachedAnalysis(AiAnalysisOutput output, Instant expiresAt) {}
+
+    /**
+     * 분석 캐시 키 (정규화 전 원본 값)
+     */
+    public record AnalysisKey(String category, Long amount, String storeName, String memo) {
+
+        private static final char SEPARATOR = '\u001F';
+
+        String fingerprint() {
+            String raw = String.valueOf(category) + SEPARATOR
+                    + amountBucket(amount) + SEPARATOR
+                    + normalize(storeName) + SEPARATOR
+                    + normalize(memo);
+            return sha256(raw);
+        }
+
+        /**
+         * 유효숫자 2자리 반올림 (4,520 → 4,500 / 1,250,000 → 1,300,000)
+         */
+        static long amountBucket(Long amount) {
+            if (amount == null || amount <= 0) {
+                return -1;
+            }
+            long unit = 1;
+            while (amount / unit >= 100) {
+                unit *= 10;
+            }
+            return Math.round((double) amount / unit) * unit;
+        }
+
+        private static String normalize(String value) {
+            if (value == null) {
+                return "";
+            }
+            return value.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        }
+
+        private static String sha256(String raw) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(digest.digest(raw.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
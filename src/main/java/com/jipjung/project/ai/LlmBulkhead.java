@@ -0,0 +1,188 @@
+package com.jipjung.project.ai;
+
+import com.jipjung.project.global.exception.BusinessException;
+import com.jipjung.project.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 호출 벌크헤드 (동시 호출 수 제한 + 대기열 제한 + 대기 타임아웃)
+ * <p>
+ * 호출 유형(영수증 추출/분석/판결)마다 별도 세마포어를 두어 무거운 이미지 추출이
+ * 가벼운 텍스트 프롬프트의 슬롯을 잠식하지 않도록 한다.
+ * 대기열이 가득 찼거나 대기 시간이 지나면 AI_SERVICE_BUSY(503)로 즉시 거절한다.
+ * <p>
+ * 설정: ai.bulkhead.{extraction|analysis|judgment}.max-concurrent / max-waiting / wait-timeout-ms
+ */
+@Component
+@Slf4j
+public class LlmBulkhead {
+
+    private final Map<LlmCallType, Compartment> compartments = new EnumMap<>(LlmCallType.class);
+
+    public LlmBulkhead(Environment environment, MeterRegistry meterRegistry) {
+        for (LlmCallType type : LlmCallType.values()) {
+            compartments.put(type, new Compartment(type, environment, meterRegistry));
+        }
+    }
+
+    /**
+     * 벌크헤드 안에서 모델 호출 실행
+     *
+     * @throws BusinessException AI_SERVICE_BUSY - 대기열 포화 또는 대기 타임아웃
+     */
+    public <T> T execute(LlmCallType type, Supplier<T> call) {
+        Compartment compartment = compartments.get(type);
+        compartment.acquire();
+        long startedAt = System.nanoTime();
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            compartment.release(System.nanoTime() - startedAt, outcome);
+        }
+    }
+
+    /**
+     * 벌크헤드 안에서 스트리밍 모델 호출 실행
+     * <p>
+     * 구독 시점에 슬롯을 얻고, 스트림이 완료/실패/취소되면 반납한다.
+     * 거절(AI_SERVICE_BUSY)은 onError로 전달된다.
+     */
+    public <T> Flux<T> stream(LlmCallType type, Supplier<Flux<T>> call) {
+        Compartment compartment = compartments.get(type);
+        return Flux.defer(() -> {
+            compartment.acquire();
+            long startedAt = System.nanoTime();
+            Flux<T> flux;
+            try {
+                flux = call.get();
+            } catch (RuntimeException e) {
+                compartment.release(System.nanoTime() - startedAt, "error");
+                throw e;
+            }
+            return flux.doFinally(signal -> compartment.release(System.nanoTime() - startedAt,
+                    signal == SignalType.ON_COMPLETE ? "success" : "error"));
+        });
+    }
+
+    /**
+     * 모델 호출 유형
+     */
+    public enum LlmCallType {
+        EXTRACTION(2, 10, 3000),
+        ANALYSIS(4, 20, 2000),
+        JUDGMENT(4, 20, 2000);
+
+        private final int defaultMaxConcurrent;
+        private final int defaultMaxWaiting;
+        private final long defaultWaitTimeoutMs;
+
+        LlmCallType(int defaultMaxConcurrent, int defaultMaxWaiting, long defaultWaitTimeoutMs) {
+            this.defaultMaxConcurrent = defaultMaxConcurrent;
+            this.defaultMaxWaiting = defaultMaxWaiting;
+            this.defaultWaitTimeoutMs = defaultWaitTimeoutMs;
+        }
+
+        private String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final class Compartment {
+
+        private final LlmCallType type;
+        private final int maxWaiting;
+        private final long waitTimeoutMs;
+        private final Semaphore permits;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private final Timer queueWaitTimer;
+        private final Timer successTimer;
+        private final Timer errorTimer;
+        private final Counter queueFullCounter;
+        private final Counter timeoutCounter;
+
+        private Compartment(LlmCallType type, Environment env, MeterRegistry registry) {
+            String prefix = "ai.bulkhead." + type.key() + ".";
+            int maxConcurrent = env.getProperty(prefix + "max-concurrent", Integer.class, type.defaultMaxConcurrent);
+            this.type = type;
+            this.maxWaiting = Math.max(0, env.getProperty(prefix + "max-waiting", Integer.class, type.defaultMaxWaiting));
+            this.waitTimeoutMs = Math.max(0L, env.getProperty(prefix + "wait-timeout-ms", Long.class, type.defaultWaitTimeoutMs));
+            this.permits = new Semaphore(Math.max(1, maxConcurrent), true);
+
+            String tag = type.key();
+            Gauge.builder("ai.llm.inflight", inFlight, AtomicInteger::get)
+                    .description("진행 중인 모델 호출 수")
+                    .tag("type", tag)
+                    .register(registry);
+            Gauge.builder("ai.llm.waiting", waiting, AtomicInteger::get)
+                    .description("벌크헤드 대기 중인 호출 수")
+                    .tag("type", tag)
+                    .register(registry);
+            this.queueWaitTimer = Timer.builder("ai.llm.queue.wait").tag("type", tag).register(registry);
+            this.successTimer = Timer.builder("ai.llm.latency").tag("type", tag).tag("outcome", "success").register(registry);
+            this.errorTimer = Timer.builder("ai.llm.latency").tag("type", tag).tag("outcome", "error").register(registry);
+            this.queueFullCounter = registry.counter("ai.llm.rejected", "type", tag, "reason", "queue_full");
+            this.timeoutCounter = registry.counter("ai.llm.rejected", "type", tag, "reason", "timeout");
+        }
+
+        private void acquire() {
+            if (permits.tryAcquire()) {
+                queueWaitTimer.record(0, TimeUnit.NANOSECONDS);
+                inFlight.incrementAndGet();
+                return;
+            }
+            if (waiting.incrementAndGet() > maxWaiting) {
+                waiting.decrementAndGet();
+                queueFullCounter.increment();
+                log.warn("[AI Bulkhead] 대기열 포화로 거절: type={}", type);
+                throw new BusinessException(ErrorCode.AI_SERVICE_BUSY);
+            }
+
+            long waitStartedAt = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = permits.tryAcquire(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            } finally {
+                waiting.decrementAndGet();
+                queueWaitTimer.record(System.nanoTime() - waitStartedAt, TimeUnit.NANOSECONDS);
+            }
+
+            if (!acquired) {
+                timeoutCounter.increment();
+                log.warn("[AI Bulkhead] 대기 시간 초과로 거절: type={}, waitTimeoutMs={}", type, waitTimeoutMs);
+                throw new BusinessException(ErrorCode.AI_SERVICE_BUSY);
+            }
+            inFlight.incrementAndGet();
+        }
+
+        private void release(long elapsedNanos, String outcome) {
+            inFlight.decrementAndGet();
+            permits.release();
+            ("success".equals(outcome) ? successTimer : errorTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.jipjung.project.ai;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * 영수증 이미지 전처리 (Gemini 업로드 전)
+ * <p>
+ * <ul>
+ *   <li>업로드는 힙이 아닌 임시 파일로 받아 처리 후 삭제</li>
+ *   <li>용량/해상도 상한 초과 입력은 디코딩 전에 거절</li>
+ *   <li>서브샘플링 디코딩 후 긴 변 기준 max-dimension으로 축소, JPEG 재인코딩 (OCR에 충분한 품질)</li>
+ *   <li>재인코딩 시 메타데이터(EXIF 등)를 쓰지 않아 자동 제거 - 단, JPEG EXIF Orientation은 먼저 읽어 픽셀에 회전 반영</li>
+ *   <li>디코딩할 수 없는 형식(예: webp)은 원본을 그대로 사용</li>
+ * </ul>
+ * 전/후 바이트 크기는 ai.receipt.image.bytes{stage=original|processed}로 기록한다.
+ */
+@Component
+@Slf4j
+public class ReceiptImagePreprocessor {
+
+    private static final String OUTPUT_CONTENT_TYPE = "image/jpeg";
+    private static final int ORIENTATION_NORMAL = 1;
+    /** EXIF Orientation 태그 */
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+    /** APP1(Exif) 탐색 시 읽는 파일 앞부분 최대 크기 */
+    private static final int EXIF_SCAN_BYTES = 128 * 1024;
+
+    private final long maxUploadBytes;
+    private final long maxPixels;
+    private final int maxDimension;
+    private final float jpegQuality;
+    private final DistributionSummary originalBytes;
+    private final DistributionSummary processedBytes;
+
+    public ReceiptImagePreprocessor(
+            MeterRegistry meterRegistry,
+            @Value("${ai.receipt.max-upload-bytes:15728640}") long maxUploadBytes,
+            @Value("${ai.receipt.max-pixels:50000000}") long maxPixels,
+            @Value("${ai.receipt.max-dimension:1600}") int maxDimension,
+            @Value("${ai.receipt.jpeg-quality:0.85}") float jpegQuality
+    ) {
+        this.maxUploadBytes = maxUploadBytes;
+        this.maxPixels = maxPixels;
+        this.maxDimension = Math.max(256, maxDimension);
+        this.jpegQuality = Math.min(1.0f, Math.max(0.1f, jpegQuality));
+        this.originalBytes = DistributionSummary.builder("ai.receipt.image.bytes")
+                .baseUnit("bytes").tag("stage", "original").register(meterRegistry);
+        this.processedBytes = DistributionSummary.builder("ai.receipt.image.bytes")
+                .baseUnit("bytes").tag("stage", "processed").register(meterRegistry);
+    }
+
+    /**
+     * 업로드 이미지를 모델 입력용으로 변환
+     *
+     * @throws IllegalArgumentException 용량/해상도 초과 또는 읽기 실패
+     */
+    public ProcessedImage process(MultipartFile imageFile) {
+        long size = imageFile.getSize();
+        if (size > maxUploadBytes) {
+            throw new IllegalArgumentException("이미지 용량이 너무 큽니다 (최대 " + (maxUploadBytes / (1024 * 1024)) + "MB)");
+        }
+        originalBytes.record(size);
+
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("receipt-", ".upload");
+            imageFile.transferTo(tempFile);
+
+            ProcessedImage processed = downscale(tempFile);
+            if (processed == null) {
+                // 디코더가 없는 형식: 원본 그대로 전달
+                processed = new ProcessedImage(Files.readAllBytes(tempFile), imageFile.getContentType());
+            }
+            processedBytes.record(processed.bytes().length);
+            log.info("[Receipt] 이미지 전처리: {} bytes → {} bytes ({})",
+                    size, processed.bytes().length, processed.contentType());
+            return processed;
+        } catch (IOException e) {
+            log.warn("[Receipt] 이미지 전처리 실패", e);
+            throw new IllegalArgumentException("이미지 파일을 읽는 중 오류가 발생했습니다");
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    /**
+     * @return 변환 결과, 디코딩할 수 없는 형식이면 null
+     */
+    private ProcessedImage downscale(Path file) throws IOException {
+        int orientation = readExifOrientation(file);
+        try (ImageInputStream input = ImageIO.createImageInputStream(file.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);  // 메타데이터 무시 (Orientation은 위에서 미리 읽음)
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("이미지 해상도가 너무 큽니다");
+                }
+
+                // 디코딩 단계에서 정수배 서브샘플링 (원본 해상도 전체를 힙에 올리지 않음)
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = reader.read(0, param);
+
+                if (orientation != ORIENTATION_NORMAL) {
+                    log.debug("[Receipt] EXIF Orientation 반영: {}", orientation);
+                }
+                return new ProcessedImage(encodeJpeg(resize(decoded, orientation)), OUTPUT_CONTENT_TYPE);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 긴 변 기준 maxDimension 이하로 축소 + EXIF Orientation 회전/반전 + RGB 변환 (투명 배경은 흰색)
+     *
+     * @param orientation EXIF Orientation (1~8, 5~8은 가로/세로가 바뀜)
+     */
+    private BufferedImage resize(BufferedImage source, int orientation) {
+        int longSide = Math.max(source.getWidth(), source.getHeight());
+        double scale = longSide > maxDimension ? (double) maxDimension / longSide : 1.0;
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        boolean swapsAxes = orientation >= 5;
+
+        BufferedImage target = swapsAxes
+                ? new BufferedImage(height, width, BufferedImage.TYPE_INT_RGB)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, target.getWidth(), target.getHeight());
+            graphics.transform(orientationTransform(orientation, width, height));
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    /**
+     * 축소된 원본 좌표(width x height)를 바르게 세운 출력 좌표로 옮기는 변환
+     */
+    private static AffineTransform orientationTransform(int orientation, int width, int height) {
+        return switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, width, 0);          // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, width, height);    // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, height);         // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);               // 전치
+            case 6 -> new AffineTransform(0, 1, -1, 0, height, 0);         // 시계 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, height, width);    // 역전치
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, width);          // 반시계 90도
+            default -> new AffineTransform();
+        };
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트의 Orientation 값
+     * <p>
+     * 디코딩은 메타데이터를 무시하고 재인코딩은 EXIF를 버리므로, 회전 정보만 파일 앞부분에서 먼저 읽는다.
+     *
+     * @return 1~8, JPEG가 아니거나 태그가 없거나 읽을 수 없으면 1
+     */
+    static int readExifOrientation(Path file) {
+        byte[] head;
+        try (InputStream in = Files.newInputStream(file)) {
+            head = in.readNBytes(EXIF_SCAN_BYTES);
+        } catch (IOException e) {
+            return ORIENTATION_NORMAL;
+        }
+        if (head.length < 4 || (head[0] & 0xFF) != 0xFF || (head[1] & 0xFF) != 0xD8) {
+            return ORIENTATION_NORMAL;
+        }
+
+        int pos = 2;
+        while (pos + 4 <= head.length) {
+            if ((head[pos] & 0xFF) != 0xFF) {
+                return ORIENTATION_NORMAL;
+            }
+            int marker = head[pos + 1] & 0xFF;
+            if (marker == 0xFF) {
+                pos++;  // 채움 바이트
+                continue;
+            }
+            if (marker == 0xDA || marker == 0xD9) {
+                return ORIENTATION_NORMAL;  // SOS/EOI: 헤더 세그먼트 끝
+            }
+            int length = ((head[pos + 2] & 0xFF) << 8) | (head[pos + 3] & 0xFF);
+            int segmentStart = pos + 4;
+            int segmentLength = length - 2;
+            if (marker == 0xE1 && segmentLength > 6 && segmentStart + segmentLength <= head.length
+                    && isExifHeader(head, segmentStart)) {
+                return readTiffOrientation(head, segmentStart + 6, segmentLength - 6);
+            }
+            pos += 2 + length;
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    private static boolean isExifHeader(byte[] data, int offset) {
+        return data[offset] == 'E' && data[offset + 1] == 'x' && data[offset + 2] == 'i'
+                && data[offset + 3] == 'f' && data[offset + 4] == 0 && data[offset + 5] == 0;
+    }
+
+    /**
+     * TIFF 헤더 + IFD0에서 Orientation(SHORT) 조회
+     */
+    private static int readTiffOrientation(byte[] data, int offset, int length) {
+        if (length < 8) {
+            return ORIENTATION_NORMAL;
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(data, offset, length).slice();
+        if (data[offset] == 'I' && data[offset + 1] == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (data[offset] == 'M' && data[offset + 1] == 'M') {
+            tiff.order(ByteOrder.BIG_ENDIAN);
+        } else {
+            return ORIENTATION_NORMAL;
+        }
+
+        long ifdOffset = tiff.getInt(4) & 0xFFFFFFFFL;
+        if (ifdOffset + 2 > length) {
+            return ORIENTATION_NORMAL;
+        }
+        int entryCount = tiff.getShort((int) ifdOffset) & 0xFFFF;
+        for (int i = 0; i < entryCount; i++) {
+            int entry = (int) ifdOffset + 2 + i * 12;
+            if (entry + 12 > length) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == EXIF_ORIENTATION_TAG) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : ORIENTATION_NORMAL;
+            }
+        }
+        return ORIENTATION_NORMAL;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(buffer)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.debug("[Receipt] 임시 파일 삭제 실패: {}", file);
+        }
+    }
+
+    /**
+     * 모델 입력용 이미지
+     */
+    public record ProcessedImage(byte[] bytes, String contentType) {}
+}
@@ -32,6 +32,14 @@ public record AiAnalysisOutput(
         String type        // DEFENSE, GIVE_UP
     ) {}
 
+    /**
+     * 대사만 바꾼 사본 (캐시된 대사의 자리표시자 치환용)
+     */
+    public AiAnalysisOutput withScript(String script) {
+        return new AiAnalysisOutput(mood, moodLabel, script, suggestedExcuses,
+                extractedAmount, extractedStoreName, extractedCategory, extractedPaymentDate);
+    }
+
     /**
      * suggestedExcuses가 null인 경우 빈 리스트 반환 (NPE 방지)
      */
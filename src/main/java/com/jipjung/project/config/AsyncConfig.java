@@ -1,11 +1,13 @@
 package com.jipjung.project.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -18,6 +20,94 @@ public class AsyncConfig {
         executor.setMaxPoolSize(4);
         executor.setQueueCapacity(50);
         executor.setThreadNamePrefix("molit-warmup-");
+        // 포화 시 예외로 알려 ApartmentWarmupService가 single-flight 키를 해제하고 조용히 버린다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 AI 작업 전용 풀 (Gemini 호출이 Tomcat 워커를 점유하지 않도록 분리)
+     * 포화 시 거부 → AiJobService가 503(AI_SERVICE_BUSY)으로 응답
+     */
+    @Bean(name = "aiJobExecutor")
+    public Executor aiJobExecutor(
+            @Value("${ai.async.workers:4}") int workers,
+            @Value("${ai.async.queue-capacity:50}") int queueCapacity
+    ) {
+        int poolSize = Math.max(1, workers);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Math.max(0, queueCapacity));
+        executor.setThreadNamePrefix("ai-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대시보드 섹션 병렬 조회 전용 풀 (동시 DB 커넥션 사용량의 상한 역할)
+     * 포화 시 호출 스레드에서 실행 → 해당 요청은 순차 조회와 동일하게 동작
+     * 워커마다 커넥션을 하나씩 쓰므로 병렬 모드에서는 Hikari 최대 풀 크기보다 작아야 한다
+     * (요청 스레드의 사용자/드림홈 조회, 다른 API 몫의 커넥션을 남겨두기 위함)
+     */
+    @Bean(name = "dashboardSectionPool")
+    public Executor dashboardSectionPool(
+            @Value("${dashboard.parallel.enabled:false}") boolean parallelEnabled,
+            @Value("${dashboard.parallel.workers:8}") int workers,
+            @Value("${dashboard.parallel.queue-capacity:100}") int queueCapacity,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maxConnectionPoolSize
+    ) {
+        int poolSize = Math.max(1, workers);
+        if (parallelEnabled && poolSize >= maxConnectionPoolSize) {
+            throw new IllegalStateException(
+                    "dashboard.parallel.workers(" + poolSize + ") must be less than "
+                            + "spring.datasource.hikari.maximum-pool-size(" + maxConnectionPoolSize + ")");
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Math.max(0, queueCapacity));
+        executor.setThreadNamePrefix("dashboard-section-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대시보드 조회 후속 처리 전용 풀 (스트릭 참여, XP 완료 보정)
+     * 포화 시 호출 스레드에서 실행하여 참여 기록이 유실되지 않도록 한다
+     */
+    @Bean(name = "dashboardEventExecutor")
+    public Executor dashboardEventExecutor(
+            @Value("${dashboard.event.workers:2}") int workers,
+            @Value("${dashboard.event.queue-capacity:500}") int queueCapacity
+    ) {
+        int poolSize = Math.max(1, workers);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(Math.max(0, queueCapacity));
+        executor.setThreadNamePrefix("dashboard-event-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 지오코딩 큐 워커 전용 풀 (워커 수 = 스레드 수, 장기 실행 루프)
+     */
+    @Bean(name = "geocodeExecutor")
+    public Executor geocodeExecutor(@Value("${kakao.api.geocode-workers:2}") int workers) {
+        int poolSize = Math.max(1, workers);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("geocode-worker-");
         executor.initialize();
         return executor;
     }
@@ -1,18 +1,73 @@
 package com.jipjung.project.config;
 
+import com.jipjung.project.external.http.OutboundRetryInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 /**
  * RestTemplate 설정
- * MOLIT API 등 외부 API 호출에 사용
+ * <p>
+ * 외부 연동(MOLIT, Kakao)마다 별도 HttpClient를 사용해 커넥션 풀(keep-alive)을 분리하고,
+ * 연결/읽기 타임아웃과 GET 재시도를 연동별 프로퍼티로 설정한다.
+ * Spring Boot RestTemplateBuilder로 생성하므로 http.client.requests 지표가
+ * client.name(호스트) 태그와 함께 자동 기록된다.
  */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate molitRestTemplate(
+            RestTemplateBuilder builder,
+            MeterRegistry meterRegistry,
+            @Value("${molit.api.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${molit.api.http.read-timeout-ms:10000}") long readTimeoutMs,
+            @Value("${molit.api.http.max-attempts:3}") int maxAttempts,
+            @Value("${molit.api.http.backoff-ms:300}") long backoffMs
+    ) {
+        return build(builder, meterRegistry, "molit", connectTimeoutMs, readTimeoutMs, maxAttempts, backoffMs);
+    }
+
+    @Bean
+    public RestTemplate kakaoRestTemplate(
+            RestTemplateBuilder builder,
+            MeterRegistry meterRegistry,
+            @Value("${kakao.api.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${kakao.api.http.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${kakao.api.http.max-attempts:2}") int maxAttempts,
+            @Value("${kakao.api.http.backoff-ms:200}") long backoffMs
+    ) {
+        return build(builder, meterRegistry, "kakao", connectTimeoutMs, readTimeoutMs, maxAttempts, backoffMs);
+    }
+
+    private RestTemplate build(RestTemplateBuilder builder,
+                               MeterRegistry meterRegistry,
+                               String clientName,
+                               long connectTimeoutMs,
+                               long readTimeoutMs,
+                               int maxAttempts,
+                               long backoffMs) {
+        // 연동별 전용 HttpClient: 커넥션을 keep-alive로 재사용 (페이지마다 TCP/TLS 핸드셰이크 방지)
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return builder
+                .requestFactory(() -> requestFactory)
+                // 재시도 인터셉터는 마지막에 두어야 시도마다 새 요청이 만들어진다
+                .additionalInterceptors(new OutboundRetryInterceptor(
+                        clientName, maxAttempts, Duration.ofMillis(backoffMs), meterRegistry))
+                .build();
     }
 }
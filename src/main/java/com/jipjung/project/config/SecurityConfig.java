@@ -8,6 +8,7 @@ import com.jipjung.project.config.jwt.handler.LoginFailureHandler;
 import com.jipjung.project.config.jwt.handler.LoginSuccessHandler;
 import com.jipjung.project.service.LoginService;
 import com.jipjung.project.repository.UserPreferredAreaMapper;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -63,12 +64,15 @@ public class SecurityConfig {
 
                 // URL별 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()  // SSE 등 비동기 재디스패치 (최초 요청에서 인가됨)
                         .requestMatchers("/api/auth/**").permitAll()  // 인증 관련 모두 허용
                         .requestMatchers("/", "/error").permitAll()  // 기본 경로
                         .requestMatchers("/test/**", "/health").permitAll()  // 테스트용 경로
                         .requestMatchers("/h2-console/**").permitAll()  // H2 콘솔
                         .requestMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()  // Swagger
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")  // 관리자 API - ROLE_ADMIN 필요
+                        .requestMatchers("/actuator/health").permitAll()  // 헬스 체크
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")  // 내부 메트릭 - ROLE_ADMIN 필요
                         .requestMatchers("/api/apartments/favorites/**").authenticated()  // 관심 아파트 - 인증 필요
                         .requestMatchers("/api/apartments/**").permitAll()  // 아파트 조회 - 공개
                         .anyRequest().authenticated()  // 나머지는 인증 필요
@@ -140,7 +144,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("*"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
-        configuration.setExposedHeaders(Arrays.asList("Authorization"));
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag"));
         configuration.setAllowCredentials(false);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
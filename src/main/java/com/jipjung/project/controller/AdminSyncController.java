@@ -2,7 +2,12 @@ package com.jipjung.project.controller;
 
 import com.jipjung.project.global.response.ApiResponse;
 import com.jipjung.project.service.ApartmentGeocodingService;
+import com.jipjung.project.service.ApartmentLatestDealService;
 import com.jipjung.project.service.ApartmentSyncService;
+import com.jipjung.project.service.CollectionService;
+import com.jipjung.project.service.DsrService;
+import com.jipjung.project.service.ReferenceDataCache;
+import com.jipjung.project.service.SavingsDailyBalanceService;
 import com.jipjung.project.service.dto.SyncResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,6 +33,11 @@ public class AdminSyncController {
 
     private final ApartmentSyncService syncService;
     private final ApartmentGeocodingService geocodingService;
+    private final ApartmentLatestDealService latestDealService;
+    private final CollectionService collectionService;
+    private final ReferenceDataCache referenceDataCache;
+    private final SavingsDailyBalanceService savingsDailyBalanceService;
+    private final DsrService dsrService;
 
     /**
      * 초기 동기화 (강남구 + 현재월)
@@ -97,6 +107,84 @@ public class AdminSyncController {
         return ApiResponse.success(new GeocodeBackfillResponse(updated));
     }
 
+    /**
+     * 최신 거래 테이블 재구축
+     * POST /api/admin/sync/latest-deal/rebuild
+     */
+    @Operation(summary = "최신 거래 재구축", description = "apartment_deal 기준으로 아파트별 최신 거래 테이블을 다시 적재합니다.")
+    @PostMapping("/latest-deal/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<LatestDealRebuildResponse>> rebuildLatestDeals(
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[Admin LatestDeal] 최신 거래 재구축 요청 by {}",
+                userDetails != null ? userDetails.getUsername() : "unknown");
+        int rebuilt = latestDealService.rebuildAll();
+        return ApiResponse.success(new LatestDealRebuildResponse(rebuilt));
+    }
+
+    /**
+     * 목표 XP 진행 원장 검증/보정
+     * POST /api/admin/sync/goal-progress/verify?batchSize=200
+     */
+    @Operation(summary = "목표 XP 원장 검증", description = "활성 드림홈의 XP 원장을 이벤트 리플레이와 비교하여 보정합니다.")
+    @PostMapping("/goal-progress/verify")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CollectionService.ProgressVerifyResult>> verifyGoalProgress(
+            @Parameter(description = "한 번에 조회할 드림홈 수", example = "200")
+            @RequestParam(defaultValue = "200") int batchSize,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[Admin GoalProgress] 원장 검증 요청 by {}",
+                userDetails != null ? userDetails.getUsername() : "unknown");
+        return ApiResponse.success(collectionService.verifyActiveProgress(batchSize));
+    }
+
+    /**
+     * 참조 데이터 캐시 재적재 (레벨/테마/법정동코드)
+     * POST /api/admin/sync/reference-data/refresh
+     */
+    @Operation(summary = "참조 데이터 재적재", description = "성장 레벨, 하우스 테마, 법정동코드 캐시를 DB에서 다시 적재합니다.")
+    @PostMapping("/reference-data/refresh")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ReferenceDataCache.RefreshResult>> refreshReferenceData(
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[Admin ReferenceCache] 재적재 요청 by {}",
+                userDetails != null ? userDetails.getUsername() : "unknown");
+        return ApiResponse.success(referenceDataCache.refresh());
+    }
+
+    /**
+     * 일별 저축 잔액 롤업 백필
+     * POST /api/admin/sync/savings-balance/backfill?batchSize=200
+     */
+    @Operation(summary = "일별 저축 잔액 백필", description = "저축 내역으로 드림홈별 일별 잔액 롤업을 다시 적재합니다.")
+    @PostMapping("/savings-balance/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<SavingsDailyBalanceService.BackfillResult>> backfillSavingsBalance(
+            @Parameter(description = "한 번에 조회할 드림홈 수", example = "200")
+            @RequestParam(defaultValue = "200") int batchSize,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[Admin SavingsBalance] 백필 요청 by {}",
+                userDetails != null ? userDetails.getUsername() : "unknown");
+        return ApiResponse.success(savingsDailyBalanceService.backfill(batchSize));
+    }
+
+    /**
+     * PRO DSR 이력 → 스냅샷 이관
+     * POST /api/admin/sync/dsr-snapshot/migrate?batchSize=200
+     */
+    @Operation(summary = "DSR 스냅샷 이관", description = "PRO DSR 이력 JSON을 사용자별 최신 스냅샷 컬럼으로 이관합니다.")
+    @PostMapping("/dsr-snapshot/migrate")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<DsrService.SnapshotMigrationResult>> migrateDsrSnapshots(
+            @Parameter(description = "한 번에 조회할 사용자 수", example = "200")
+            @RequestParam(defaultValue = "200") int batchSize,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("[Admin DsrSnapshot] 이관 요청 by {}",
+                userDetails != null ? userDetails.getUsername() : "unknown");
+        return ApiResponse.success(dsrService.migrateProSnapshots(batchSize));
+    }
+
     public record SyncStatusResponse(boolean fallbackEnabled) {}
     public record GeocodeBackfillResponse(int updated) {}
+    public record LatestDealRebuildResponse(int rebuilt) {}
 }
@@ -3,12 +3,15 @@ package com.jipjung.project.controller;
 import com.jipjung.project.controller.dto.request.ConfirmExtractedDataRequest;
 import com.jipjung.project.controller.dto.request.JudgmentRequest;
 import com.jipjung.project.controller.dto.request.SpendingAnalyzeRequest;
+import com.jipjung.project.controller.dto.response.AiConversationResultResponse;
 import com.jipjung.project.controller.dto.response.AiHistoryResponse;
+import com.jipjung.project.controller.dto.response.AiJobAcceptedResponse;
 import com.jipjung.project.controller.dto.response.JudgmentResponse;
 import com.jipjung.project.controller.dto.response.SpendingAnalyzeResponse;
 import com.jipjung.project.domain.ConversationStatus;
 import com.jipjung.project.global.openapi.SwaggerBody;
 import com.jipjung.project.global.response.ApiResponse;
+import com.jipjung.project.service.AiJobService;
 import com.jipjung.project.service.AiManagerService;
 import com.jipjung.project.service.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +27,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -39,6 +43,7 @@ import java.util.List;
 public class AiManagerController {
 
     private final AiManagerService aiManagerService;
+    private final AiJobService aiJobService;
 
     // =========================================================================
     // 지출 분석 (MANUAL / IMAGE)
@@ -205,6 +210,105 @@ public class AiManagerController {
         return ResponseEntity.ok(ApiResponse.successBody(message, response));
     }
 
+    // =========================================================================
+    // 비동기 모드 (202 Accepted + 폴링/SSE)
+    // =========================================================================
+
+    @Operation(
+            summary = "지출 분석 (비동기)",
+            description = """
+                    지출 분석을 접수하고 즉시 202와 conversationId를 반환합니다.
+                    AI 호출은 전용 작업 풀에서 진행되며, 결과는 아래 중 하나로 받습니다.
+                    - 폴링: GET /api/ai-manager/conversations/{conversationId}
+                    - SSE: GET /api/ai-manager/conversations/{conversationId}/events
+                    """
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "202",
+                    description = "접수 완료"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "503",
+                    description = "AI 작업 풀 포화"
+            )
+    })
+    @PostMapping(value = "/analyze/async", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<AiJobAcceptedResponse>> analyzeSpendingAsyncJson(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody SpendingAnalyzeRequest request
+    ) {
+        AiJobAcceptedResponse response = aiJobService.submitAnalysis(userDetails.getId(), request, null);
+        return ApiResponse.accepted("분석 요청이 접수되었습니다.", response);
+    }
+
+    @Operation(summary = "지출 분석 (비동기, 이미지 포함)")
+    @SwaggerBody(content = @Content(
+            mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+            encoding = @Encoding(name = "request", contentType = MediaType.APPLICATION_JSON_VALUE)
+    ))
+    @PostMapping(value = "/analyze/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<AiJobAcceptedResponse>> analyzeSpendingAsyncMultipart(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestPart("request") SpendingAnalyzeRequest request,
+            @RequestPart(value = "image", required = false) MultipartFile image
+    ) {
+        AiJobAcceptedResponse response = aiJobService.submitAnalysis(userDetails.getId(), request, image);
+        return ApiResponse.accepted("분석 요청이 접수되었습니다.", response);
+    }
+
+    @Operation(summary = "최종 판결 (비동기)", description = "판결을 접수하고 즉시 202를 반환합니다. 결과 조회 방식은 분석과 동일합니다.")
+    @PostMapping("/judgment/async")
+    public ResponseEntity<ApiResponse<AiJobAcceptedResponse>> processJudgmentAsync(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody JudgmentRequest request
+    ) {
+        AiJobAcceptedResponse response = aiJobService.submitJudgment(userDetails.getId(), request);
+        return ApiResponse.accepted("판결 요청이 접수되었습니다.", response);
+    }
+
+    @Operation(
+            summary = "최종 판결 (스트리밍)",
+            description = """
+                    판결 생성 텍스트를 SSE로 실시간 전달합니다.
+                    - delta: 생성 중인 응답 조각 (문자열)
+                    - result: 판결 및 경험치 반영 완료 (JudgmentResponse)
+                    - error: 실패 메시지
+                    """
+    )
+    @PostMapping(value = "/judgment/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter processJudgmentStream(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody JudgmentRequest request
+    ) {
+        return aiJobService.streamJudgment(userDetails.getId(), request);
+    }
+
+    @Operation(
+            summary = "AI 처리 결과 조회 (폴링)",
+            description = "jobState가 RUNNING이면 처리 중, SUCCEEDED/FAILED면 완료입니다."
+    )
+    @GetMapping("/conversations/{conversationId}")
+    public ResponseEntity<ApiResponse<AiConversationResultResponse>> getConversationResult(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long conversationId
+    ) {
+        AiConversationResultResponse response = aiJobService.getResult(userDetails.getId(), conversationId);
+        return ResponseEntity.ok(ApiResponse.successBody("조회 성공", response));
+    }
+
+    @Operation(
+            summary = "AI 처리 결과 구독 (SSE)",
+            description = "접속 시 status 이벤트, 완료 시 result 이벤트를 보내고 스트림을 종료합니다."
+    )
+    @GetMapping(value = "/conversations/{conversationId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeConversationResult(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long conversationId
+    ) {
+        return aiJobService.subscribe(userDetails.getId(), conversationId);
+    }
+
     // =========================================================================
     // 분석 내역 조회
     // =========================================================================
@@ -36,7 +36,8 @@ public class ApartmentController {
             summary = "아파트 목록 조회",
             description = "검색 조건에 따라 아파트 목록을 조회합니다. 각 아파트의 최신 실거래가 1건이 포함됩니다.\n\n" +
                     "**검색 조건**: 아파트명, 읍면동명, 거래일, 거래금액 등으로 필터링 가능\n\n" +
-                    "**페이징**: page와 size 파라미터로 페이징 처리"
+                    "**페이징**: page와 size 파라미터로 페이징 처리\n\n" +
+                    "**커서 페이징**: 응답의 nextCursor를 cursor 파라미터로 전달하면 다음 페이지를 조회합니다 (무한 스크롤용, 기본적으로 전체 개수 조회 생략)"
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -5,14 +5,18 @@ import com.jipjung.project.controller.dto.response.JourneyResponse;
 import com.jipjung.project.global.response.ApiResponse;
 import com.jipjung.project.service.CollectionService;
 import com.jipjung.project.service.CustomUserDetails;
+import com.jipjung.project.service.JourneySnapshotService;
+import com.jipjung.project.service.JourneySnapshotService.JourneySnapshot;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 컬렉션 컨트롤러
@@ -27,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
 public class CollectionController {
 
     private final CollectionService collectionService;
+    private final JourneySnapshotService journeySnapshotService;
 
     // =========================================================================
     // 컬렉션 목록 조회
@@ -74,11 +79,16 @@ public class CollectionController {
                     - 해당 Phase의 저축 이벤트 목록
                     - 누적 저축 금액
                     - Phase 도달 시각
+                    
+                    **캐싱:**
+                    - 완성된 여정은 첫 조회 시 스냅샷으로 저장되어 이후 그대로 응답
+                    - ETag 응답 헤더 제공, If-None-Match 일치 시 304 Not Modified
                     """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
     @ApiResponses({
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "304", description = "변경 없음 (ETag 일치)"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "접근 권한 없음"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "컬렉션을 찾을 수 없음")
@@ -86,10 +96,18 @@ public class CollectionController {
     @GetMapping("/{collectionId}/journey")
     public ResponseEntity<ApiResponse<JourneyResponse>> getJourney(
             @AuthenticationPrincipal CustomUserDetails userDetails,
-            @PathVariable Long collectionId
+            @PathVariable Long collectionId,
+            WebRequest webRequest
     ) {
-        JourneyResponse response = collectionService.getJourney(userDetails.getId(), collectionId);
-        return ApiResponse.success(response);
+        JourneySnapshot snapshot = journeySnapshotService.getSnapshot(userDetails.getId(), collectionId);
+        // 일치하면 304 + ETag가 기록되고 본문 없이 종료 (불일치 시에도 ETag 헤더는 기록됨)
+        if (webRequest.checkNotModified(snapshot.etag())) {
+            return null;
+        }
+        // 사용자별 데이터이므로 private + 매 요청 재검증
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.successBody(journeySnapshotService.readJourney(snapshot)));
     }
 
     @Operation(
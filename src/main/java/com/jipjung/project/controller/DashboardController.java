@@ -1,10 +1,12 @@
 package com.jipjung.project.controller;
 
 import com.jipjung.project.controller.dto.response.DashboardResponse;
+import com.jipjung.project.controller.dto.response.DashboardResponse.AssetsSection;
 import com.jipjung.project.global.response.ApiResponse;
 import com.jipjung.project.service.CustomUserDetails;
 import com.jipjung.project.service.DashboardService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -15,6 +17,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -66,4 +69,38 @@ public class DashboardController {
         DashboardResponse response = dashboardService.getDashboard(userDetails.getId());
         return ApiResponse.success(response);
     }
+
+    @Operation(
+            summary = "자산 차트 조회",
+            description = """
+                    드림홈 자산 차트를 기간별로 조회합니다.
+                    
+                    **기간:** 30일(대시보드 기본), 90일, 365일
+                    - 일별 잔액 롤업에서 기간 내 행만 읽어 계산합니다.
+                    """,
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses({
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = AssetsSection.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "400",
+                    description = "지원하지 않는 기간"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "401",
+                    description = "인증 필요"
+            )
+    })
+    @GetMapping("/dashboard/assets")
+    public ResponseEntity<ApiResponse<AssetsSection>> getAssets(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Parameter(description = "차트 기간 (30, 90, 365)", example = "90")
+            @RequestParam(defaultValue = "30") int days
+    ) {
+        return ApiResponse.success(dashboardService.getAssets(userDetails.getId(), days));
+    }
 }
@@ -3,7 +3,8 @@ package com.jipjung.project.controller;
 import com.jipjung.project.controller.dto.response.HouseThemeResponse;
 import com.jipjung.project.domain.HouseTheme;
 import com.jipjung.project.global.response.ApiResponse;
-import com.jipjung.project.repository.HouseThemeMapper;
+import com.jipjung.project.service.ReferenceDataCache;
+import com.jipjung.project.service.ReferenceDataCache.ActiveThemes;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -12,10 +13,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -34,14 +37,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ThemeController {
 
-    private final HouseThemeMapper houseThemeMapper;
+    private final ReferenceDataCache referenceDataCache;
 
     /**
      * 활성 테마 목록 조회
      * <p>
      * 사용자가 드림홈 설정 시 선택할 수 있는 테마 목록을 반환합니다.
      * 비활성화되거나 삭제된 테마는 제외됩니다.
+     * 활성 테마 내용으로 만든 ETag를 내려주며, If-None-Match 일치 시 304를 반환합니다.
      *
+     * @param webRequest If-None-Match 비교 및 304/ETag 응답 처리용
      * @return 활성 테마 목록
      */
     @Operation(
@@ -53,6 +58,10 @@ public class ThemeController {
                     - themeId: 테마 고유 ID
                     - themeCode: 테마 코드 (MODERN, HANOK, CASTLE 등)
                     - themeName: 테마 표시명 (모던 하우스, 한옥, 서양 성 등)
+                    
+                    **캐싱:**
+                    - ETag 응답 헤더 제공 (활성 테마 내용이 바뀌면 변경)
+                    - If-None-Match 일치 시 304 Not Modified
                     """,
             security = @SecurityRequirement(name = "bearerAuth")
     )
@@ -62,18 +71,34 @@ public class ThemeController {
                     description = "테마 목록 조회 성공",
                     content = @Content(schema = @Schema(implementation = HouseThemeResponse.class))
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (ETag 일치)"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                     responseCode = "401",
                     description = "인증 필요"
             )
     })
     @GetMapping
-    public ResponseEntity<ApiResponse<List<HouseThemeResponse>>> getActiveThemes() {
-        List<HouseTheme> themes = houseThemeMapper.findAllActive();
+    public ResponseEntity<ApiResponse<List<HouseThemeResponse>>> getActiveThemes(WebRequest webRequest) {
+        ActiveThemes activeThemes = referenceDataCache.findActiveThemes();
+        // 일치하면 304 + ETag가 기록되고 본문 없이 종료 (불일치 시에도 ETag 헤더는 기록됨)
+        if (activeThemes.etag() != null && webRequest.checkNotModified(activeThemes.etag())) {
+            return null;
+        }
+
+        List<HouseTheme> themes = activeThemes.themes();
         log.debug("조회된 활성 테마 수: {}", themes.size());
         List<HouseThemeResponse> response = themes.stream()
                 .map(HouseThemeResponse::from)
                 .toList();
-        return ApiResponse.success(response);
+        if (activeThemes.etag() == null) {
+            return ApiResponse.success(response);
+        }
+        // 인증 API이므로 private + 매 요청 재검증
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.successBody(response));
     }
 }
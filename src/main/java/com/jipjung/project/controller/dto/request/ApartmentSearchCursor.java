@@ -0,0 +1,68 @@
+package com.jipjung.project.controller.dto.request;
+
+import com.jipjung.project.domain.Apartment;
+import com.jipjung.project.domain.ApartmentDeal;
+import com.jipjung.project.global.exception.BusinessException;
+import com.jipjung.project.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 아파트 목록 커서 (keyset pagination)
+ * 목록 정렬 키 (최신 거래일 DESC - 거래 없음은 맨 뒤, apt_nm, apt_seq)의 마지막 행 값
+ * 거래 조건이 없으면 apartment.latest_deal_date 인덱스로, 있으면 조건별 최신 거래일로 seek 한다
+ *
+ * @param dealDate 마지막 행의 최신 거래일 (거래 없음이면 null)
+ * @param aptNm    마지막 행의 아파트명
+ * @param aptSeq   마지막 행의 아파트코드 (동일 정렬 키 tie-breaker)
+ */
+public record ApartmentSearchCursor(
+        LocalDate dealDate,
+        String aptNm,
+        String aptSeq
+) {
+    private static final String VERSION = "v1";
+    private static final String DELIMITER = "|";
+
+    public static ApartmentSearchCursor from(Apartment apartment) {
+        ApartmentDeal latestDeal = apartment.getLatestDeal();
+        LocalDate dealDate = latestDeal != null ? latestDeal.getDealDate() : null;
+        return new ApartmentSearchCursor(dealDate, apartment.getAptNm(), apartment.getAptSeq());
+    }
+
+    /**
+     * 불투명 문자열로 인코딩 (URL-safe Base64)
+     * apt_nm에 구분자가 포함될 수 있으므로 마지막 필드로 둔다
+     */
+    public String encode() {
+        String raw = String.join(DELIMITER,
+                VERSION,
+                dealDate != null ? dealDate.toString() : "",
+                aptSeq,
+                aptNm);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 디코딩
+     *
+     * @throws BusinessException 형식이 올바르지 않은 경우
+     */
+    public static ApartmentSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !VERSION.equals(parts[0]) || parts[2].isEmpty()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다");
+            }
+            LocalDate dealDate = parts[1].isEmpty() ? null : LocalDate.parse(parts[1]);
+            return new ApartmentSearchCursor(dealDate, parts[3], parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 커서입니다");
+        }
+    }
+}
@@ -41,13 +41,36 @@ public record ApartmentSearchRequest(
         Integer page,
 
         @Schema(description = "페이지 크기", example = "10", defaultValue = "10")
-        Integer size
+        Integer size,
+
+        @Schema(description = "다음 페이지 커서 (이전 응답의 nextCursor, 지정 시 page 무시)", nullable = true)
+        String cursor,
+
+        @Schema(description = "전체 개수 조회 여부 (기본: page 모드 true, 커서 모드 false)", nullable = true)
+        Boolean includeTotalCount
 ) {
     public ApartmentSearchRequest {
         // 기본값 설정
         page = (page != null && page >= 0) ? page : 0;
         size = (size != null && size > 0 && size <= 100) ? size : 10;
+        cursor = (cursor != null && !cursor.isBlank()) ? cursor.trim() : null;
+    }
+
+    /**
+     * 커서(keyset) 모드 여부
+     */
+    public boolean isCursorMode() {
+        return cursor != null;
     }
+
+    /**
+     * 전체 개수 조회 필요 여부
+     * 커서 모드(무한 스크롤)는 기본적으로 COUNT 쿼리를 생략한다
+     */
+    public boolean shouldCountTotal() {
+        return includeTotalCount != null ? includeTotalCount : !isCursorMode();
+    }
+
     public long getOffset() {
         return (long) page * size;
     }
@@ -65,7 +88,9 @@ public record ApartmentSearchRequest(
                 minDealAmount,
                 maxDealAmount,
                 page,
-                size
+                size,
+                cursor,
+                includeTotalCount
         );
     }
 }
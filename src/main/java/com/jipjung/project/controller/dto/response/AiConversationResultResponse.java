@@ -0,0 +1,32 @@
+package com.jipjung.project.controller.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * AI 대화 처리 결과 응답 DTO (폴링/SSE 공용)
+ * <p>
+ * 비동기 작업이 진행 중이면 jobState=RUNNING, 완료되면 analysis 또는 judgment가 채워진다.
+ */
+@Schema(description = "AI 대화 처리 결과")
+public record AiConversationResultResponse(
+
+    @Schema(description = "대화 ID")
+    Long conversationId,
+
+    @Schema(description = "대화 상태 (PENDING/EXTRACTING/ANALYZED/JUDGED), 실패한 분석은 null", nullable = true)
+    String status,
+
+    @Schema(description = "비동기 작업 상태 (RUNNING/SUCCEEDED/FAILED), 작업 정보가 없으면 null", nullable = true)
+    String jobState,
+
+    @Schema(description = "분석 결과 (EXTRACTING/ANALYZED 이후)", nullable = true)
+    SpendingAnalyzeResponse analysis,
+
+    @Schema(description = "판결 결과 (비동기 판결 완료 시)", nullable = true)
+    JudgmentResponse judgment,
+
+    @Schema(description = "작업 실패 메시지", nullable = true)
+    String errorMessage
+
+) {
+}
@@ -0,0 +1,28 @@
+package com.jipjung.project.controller.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 비동기 AI 작업 접수 응답 DTO (202 Accepted)
+ */
+@Schema(description = "비동기 AI 작업 접수 응답")
+public record AiJobAcceptedResponse(
+
+    @Schema(description = "대화 ID (결과 조회 키)", example = "42")
+    Long conversationId,
+
+    @Schema(description = "접수 시점 대화 상태", example = "PENDING")
+    String status,
+
+    @Schema(description = "결과 폴링 URL", example = "/api/ai-manager/conversations/42")
+    String resultUrl,
+
+    @Schema(description = "결과 SSE 구독 URL", example = "/api/ai-manager/conversations/42/events")
+    String eventsUrl
+
+) {
+    public static AiJobAcceptedResponse of(Long conversationId, String status) {
+        String resultUrl = "/api/ai-manager/conversations/" + conversationId;
+        return new AiJobAcceptedResponse(conversationId, status, resultUrl, resultUrl + "/events");
+    }
+}
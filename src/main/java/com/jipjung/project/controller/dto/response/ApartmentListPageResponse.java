@@ -6,29 +6,38 @@ import java.util.List;
 
 /**
  * 아파트 목록 조회 응답 (페이징 메타 포함)
+ * page(OFFSET) 모드와 커서(keyset) 모드를 모두 지원
  */
 @Schema(description = "아파트 목록 조회 응답 (페이징)")
 public record ApartmentListPageResponse(
         @Schema(description = "현재 페이지의 아파트 목록")
         List<ApartmentListResponse> apartments,
 
-        @Schema(description = "검색 조건에 맞는 전체 아파트 개수", example = "1523")
-        int totalCount,
+        @Schema(description = "검색 조건에 맞는 전체 아파트 개수 (개수 조회 생략 시 null)", example = "1523", nullable = true)
+        Integer totalCount,
 
-        @Schema(description = "현재 페이지 번호 (0부터 시작)", example = "0")
-        int page,
+        @Schema(description = "현재 페이지 번호 (0부터 시작, 커서 모드에서는 null)", example = "0", nullable = true)
+        Integer page,
 
         @Schema(description = "페이지 크기", example = "10")
         int size,
 
-        @Schema(description = "전체 페이지 수", example = "153")
-        int totalPages
+        @Schema(description = "전체 페이지 수 (개수 조회 생략 시 null)", example = "153", nullable = true)
+        Integer totalPages,
+
+        @Schema(description = "다음 페이지 존재 여부", example = "true")
+        boolean hasNext,
+
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", nullable = true)
+        String nextCursor
 ) {
     public static ApartmentListPageResponse of(List<ApartmentListResponse> apartments,
-                                               int totalCount,
-                                               int page,
-                                               int size) {
-        int totalPages = (int) Math.ceil((double) totalCount / size);
-        return new ApartmentListPageResponse(apartments, totalCount, page, size, totalPages);
+                                               Integer totalCount,
+                                               Integer page,
+                                               int size,
+                                               String nextCursor) {
+        Integer totalPages = totalCount != null ? (int) Math.ceil((double) totalCount / size) : null;
+        return new ApartmentListPageResponse(apartments, totalCount, page, size, totalPages,
+                nextCursor != null, nextCursor);
     }
 }
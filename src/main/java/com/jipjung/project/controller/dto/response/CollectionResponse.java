@@ -1,10 +1,11 @@
 package com.jipjung.project.controller.dto.response;
 
+import com.jipjung.project.repository.dto.CollectionRow;
+import com.jipjung.project.repository.dto.InProgressSummaryRow;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 컬렉션 목록 조회 응답 DTO
@@ -51,34 +52,32 @@ public record CollectionResponse(
         private static final int TOTAL_PHASES = 11;
 
         /**
-         * Map으로부터 InProgressInfo 생성 (Mapper 결과 변환용)
+         * 요약 행으로부터 InProgressInfo 생성 (저축 금액 기준 단계)
          */
-        public static InProgressInfo fromMap(Map<String, Object> map) {
-            if (map == null) return null;
-            
-            Long targetAmount = getLong(map, "target_amount");
-            Long savedAmount = getLong(map, "current_saved_amount");
-            int currentPhase = calculatePhase(savedAmount, targetAmount);
+        public static InProgressInfo from(InProgressSummaryRow row) {
+            if (row == null) return null;
+
+            int currentPhase = calculatePhase(row.currentSavedAmount(), row.targetAmount());
 
             return new InProgressInfo(
-                    getLong(map, "dream_home_id"),
-                    getString(map, "theme_code"),
-                    getString(map, "property_name"),
-                    getString(map, "location"),
+                    row.dreamHomeId(),
+                    row.themeCode(),
+                    row.propertyName(),
+                    row.location(),
                     currentPhase,
                     TOTAL_PHASES
             );
         }
 
-        public static InProgressInfo fromMap(Map<String, Object> map, int currentPhase) {
-            if (map == null) return null;
+        public static InProgressInfo from(InProgressSummaryRow row, int currentPhase) {
+            if (row == null) return null;
             int safePhase = Math.max(1, Math.min(TOTAL_PHASES, currentPhase));
 
             return new InProgressInfo(
-                    getLong(map, "dream_home_id"),
-                    getString(map, "theme_code"),
-                    getString(map, "property_name"),
-                    getString(map, "location"),
+                    row.dreamHomeId(),
+                    row.themeCode(),
+                    row.propertyName(),
+                    row.location(),
                     safePhase,
                     TOTAL_PHASES
             );
@@ -91,19 +90,6 @@ public record CollectionResponse(
             int phase = (int) Math.floor(progress * TOTAL_PHASES) + 1;
             return Math.max(1, Math.min(TOTAL_PHASES, phase));
         }
-
-        private static Long getLong(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Long l) return l;
-            if (val instanceof Number n) return n.longValue();
-            return null;
-        }
-
-        private static String getString(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            return val != null ? val.toString() : null;
-        }
     }
 
     /**
@@ -152,60 +138,24 @@ public record CollectionResponse(
     ) {
 
         /**
-         * Map으로부터 CollectionItem 생성 (Mapper 결과 변환용)
+         * 조회 행으로부터 CollectionItem 생성
          */
-        public static CollectionItem fromMap(Map<String, Object> map) {
+        public static CollectionItem from(CollectionRow row) {
             return new CollectionItem(
-                    getLong(map, "collection_id"),
-                    getInt(map, "theme_id"),
-                    getString(map, "theme_name"),
-                    getString(map, "theme_code"),
-                    getLong(map, "dream_home_id"),
-                    getString(map, "property_name"),
-                    getString(map, "location"),
-                    getLong(map, "target_amount"),
-                    getInt(map, "saving_period_days"),
-                    getLocalDateTime(map, "completed_at"),
-                    getBoolean(map, "is_main_display"),
-                    getLong(map, "total_saved"),
-                    getString(map, "house_name")
+                    row.collectionId(),
+                    row.themeId(),
+                    row.themeName(),
+                    row.themeCode(),
+                    row.dreamHomeId(),
+                    row.propertyName(),
+                    row.location(),
+                    row.targetAmount(),
+                    row.savingPeriodDays(),
+                    row.completedAt(),
+                    row.isMainDisplay(),
+                    row.totalSaved(),
+                    row.houseName()
             );
         }
-
-        private static Long getLong(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Long l) return l;
-            if (val instanceof Number n) return n.longValue();
-            return null;
-        }
-
-        private static Integer getInt(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Integer i) return i;
-            if (val instanceof Number n) return n.intValue();
-            return null;
-        }
-
-        private static String getString(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            return val != null ? val.toString() : null;
-        }
-
-        private static Boolean getBoolean(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Boolean b) return b;
-            if (val instanceof Number n) return n.intValue() != 0;
-            return null;
-        }
-
-        private static LocalDateTime getLocalDateTime(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val instanceof LocalDateTime ldt) return ldt;
-            if (val instanceof java.sql.Timestamp ts) return ts.toLocalDateTime();
-            return null;
-        }
     }
 }
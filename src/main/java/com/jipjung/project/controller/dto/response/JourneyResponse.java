@@ -5,7 +5,6 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 저축 여정 상세 조회 응답 DTO
@@ -133,48 +132,5 @@ public record JourneyResponse(
             @Schema(description = "누적 경험치", example = "120")
             Integer cumulativeExp
     ) {
-        /**
-         * Map으로부터 JourneyEvent 생성
-         */
-        public static JourneyEvent fromMap(Map<String, Object> map) {
-            return new JourneyEvent(
-                    getLong(map, "event_id"),
-                    getString(map, "event_type"),
-                    getLocalDateTime(map, "date"),
-                    getLong(map, "amount"),
-                    getString(map, "memo"),
-                    getLong(map, "cumulative_total"),
-                    getInt(map, "exp_change"),
-                    getInt(map, "cumulative_exp")
-            );
-        }
-
-        private static Long getLong(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Long l) return l;
-            if (val instanceof Number n) return n.longValue();
-            return null;
-        }
-
-        private static String getString(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            return val != null ? val.toString() : null;
-        }
-
-        private static LocalDateTime getLocalDateTime(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val instanceof LocalDateTime ldt) return ldt;
-            if (val instanceof java.sql.Timestamp ts) return ts.toLocalDateTime();
-            return null;
-        }
-
-        private static Integer getInt(Map<String, Object> map, String key) {
-            Object val = map.get(key);
-            if (val == null) return null;
-            if (val instanceof Integer i) return i;
-            if (val instanceof Number n) return n.intValue();
-            return null;
-        }
     }
 }
@@ -0,0 +1,36 @@
+package com.jipjung.project.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완성된 컬렉션 여정 스냅샷 도메인
+ * <p>
+ * user_collection이 생성된 뒤 여정은 바뀌지 않으므로, 첫 조회 시 만든 JourneyResponse를
+ * 직렬화해 보관하고 이후 조회는 이 행 하나로 응답한다.
+ * schemaVersion이 현재 버전과 다르면 다시 생성한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CollectionJourneySnapshot {
+
+    private Long collectionId;
+    private Long userId;
+
+    /** JourneyResponse 직렬화 형식 버전 */
+    private Integer schemaVersion;
+
+    /** 직렬화된 JourneyResponse */
+    private String payloadJson;
+
+    /** payload 기반 ETag (따옴표 포함) */
+    private String etag;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,36 @@
+package com.jipjung.project.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 드림홈 목표 XP 진행 원장 도메인
+ * <p>
+ * EXP 이벤트(저축, AI 판결, 일일 활동, 마일스톤)가 기록될 때마다 증분 갱신되어
+ * 진행률 조회 시 전체 여정을 리플레이하지 않도록 한다.
+ * 누적 XP는 이벤트마다 0 미만으로 내려가지 않도록 클램프된 값이다 (리플레이와 동일 규칙).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DreamHomeProgress {
+
+    private Long dreamHomeId;
+    private Long userId;
+
+    /** 목표 기준 누적 XP */
+    private Integer totalExp;
+
+    /** 마지막 갱신 시점의 단계 (목표 금액 변경 시 조회 측에서 재계산) */
+    private Integer currentPhase;
+
+    /** 마지막 XP 이벤트 시각 */
+    private LocalDateTime lastEventAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,47 @@
+package com.jipjung.project.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 지오코딩 결과 캐시 도메인
+ * <p>
+ * 정규화 주소 단위로 Kakao 지오코딩 결과를 저장한다.
+ * 결과가 없는 주소(negative)도 저장해 retryAfter 전까지 API를 다시 호출하지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GeocodeCacheEntry {
+
+    /** 정규화 주소 (공백 정리) */
+    private String addressKey;
+
+    /** 좌표 해석 성공 여부 */
+    private Boolean resolved;
+
+    private BigDecimal latitude;
+    private BigDecimal longitude;
+
+    /** 실패 주소 재시도 가능 시각 (성공 시 null) */
+    private LocalDateTime retryAfter;
+
+    private LocalDateTime updatedAt;
+
+    public boolean isHit() {
+        return Boolean.TRUE.equals(resolved) && latitude != null && longitude != null;
+    }
+
+    /**
+     * 재시도 시각 전의 실패 결과인지 여부
+     */
+    public boolean isNegativeAt(LocalDateTime now) {
+        return !Boolean.TRUE.equals(resolved) && retryAfter != null && retryAfter.isAfter(now);
+    }
+}
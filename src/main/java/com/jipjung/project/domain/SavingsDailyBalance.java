@@ -0,0 +1,35 @@
+package com.jipjung.project.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 드림홈 일별 저축 잔액 롤업 도메인
+ * <p>
+ * 저축 기록 시 당일 행을 증분 갱신하여 자산 차트가 savings_history 전체를 합산하지 않도록 한다.
+ * 마감 잔액은 savings_history 순입금 누적합이다 (dream_home.current_saved_amount와 달리 0 클램프 없음).
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SavingsDailyBalance {
+
+    private Long dreamHomeId;
+
+    /** 기준 일자 (KST) */
+    private LocalDate balanceDate;
+
+    /** 당일 순입금 (입금 - 출금) */
+    private Long netAmount;
+
+    /** 당일 마감 잔액 */
+    private Long closingBalance;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,56 @@
+package com.jipjung.project.domain;
+
+import com.jipjung.project.dsr.DsrResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 최신 PRO DSR 스냅샷 도메인
+ * <p>
+ * PRO 시뮬레이션 결과와 대시보드에 필요한 입력값(연소득, 나이, 인정소득)을 컬럼으로 보관하여
+ * 대시보드가 dsr_calculation_history의 JSON을 파싱하지 않도록 한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDsrSnapshot {
+
+    private Long userId;
+
+    /** 원본 이력 ID (dsr_calculation_history) */
+    private Long historyId;
+
+    private String grade;
+    private Double currentDsrPercent;
+    private Double dsrAfterMaxLoanPercent;
+    private Long maxLoanAmount;
+
+    /** 시뮬레이션 입력 연소득 */
+    private Long annualIncome;
+
+    /** 시뮬레이션 시점 나이 */
+    private Integer ageAtSimulation;
+
+    /** 청년 우대 배수를 반영한 인정소득 */
+    private Long recognizedAnnualIncome;
+
+    private LocalDateTime simulatedAt;
+    private LocalDateTime updatedAt;
+
+    /**
+     * 스냅샷을 DSR 결과로 변환
+     */
+    public DsrResult toDsrResult() {
+        return new DsrResult(
+                currentDsrPercent != null ? currentDsrPercent : 0.0,
+                dsrAfterMaxLoanPercent != null ? dsrAfterMaxLoanPercent : 0.0,
+                grade,
+                maxLoanAmount != null ? maxLoanAmount : 0L
+        );
+    }
+}
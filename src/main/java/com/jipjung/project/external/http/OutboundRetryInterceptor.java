@@ -0,0 +1,110 @@
+package com.jipjung.project.external.http;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 외부 API 재시도 인터셉터 (멱등 GET 전용)
+ * <p>
+ * 연결 오류/타임아웃(IOException)과 일시적 상태 코드(429, 502, 503, 504)에 대해
+ * 지수 백오프 + 지터로 재시도한다. 체인의 마지막 인터셉터로 등록해야
+ * 재시도마다 새 요청이 생성된다.
+ * 재시도 횟수는 http.client.retries{client, reason} 카운터로 기록한다.
+ */
+@Slf4j
+public class OutboundRetryInterceptor implements ClientHttpRequestInterceptor {
+
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(429, 502, 503, 504);
+    private static final long MAX_BACKOFF_MS = 5_000L;
+
+    private final String clientName;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final Counter ioRetries;
+    private final Counter statusRetries;
+
+    public OutboundRetryInterceptor(String clientName, int maxAttempts, Duration backoff, MeterRegistry meterRegistry) {
+        this.clientName = clientName;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = Math.max(0L, backoff.toMillis());
+        this.ioRetries = retryCounter(meterRegistry, clientName, "io");
+        this.statusRetries = retryCounter(meterRegistry, clientName, "status");
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (request.getMethod() != HttpMethod.GET) {
+            return execution.execute(request, body);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            boolean lastAttempt = attempt >= maxAttempts;
+            try {
+                ClientHttpResponse response = execution.execute(request, body);
+                int status = response.getStatusCode().value();
+                if (lastAttempt || !RETRYABLE_STATUS.contains(status)) {
+                    return response;
+                }
+                response.close();
+                statusRetries.increment();
+                log.info("[HTTP {}] 일시적 오류 응답 재시도: status={}, attempt={}/{}, host={}",
+                        clientName, status, attempt, maxAttempts, request.getURI().getHost());
+            } catch (InterruptedIOException e) {
+                // 타임아웃은 재시도 대상이지만 스레드 인터럽트는 즉시 전파
+                if (lastAttempt || Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                ioRetries.increment();
+                log.info("[HTTP {}] 타임아웃 재시도: attempt={}/{}, host={}",
+                        clientName, attempt, maxAttempts, request.getURI().getHost());
+            } catch (IOException e) {
+                if (lastAttempt) {
+                    throw e;
+                }
+                ioRetries.increment();
+                log.info("[HTTP {}] 연결 오류 재시도: attempt={}/{}, host={}, error={}",
+                        clientName, attempt, maxAttempts, request.getURI().getHost(), e.getMessage());
+            }
+            sleepBackoff(attempt);
+        }
+    }
+
+    /**
+     * 지수 백오프 + equal jitter: [delay/2, delay] 구간에서 무작위 대기
+     */
+    private void sleepBackoff(int attempt) throws InterruptedIOException {
+        if (backoffMs == 0) {
+            return;
+        }
+        long delay = Math.min(MAX_BACKOFF_MS, backoffMs << Math.min(attempt - 1, 10));
+        long half = delay / 2;
+        long sleepMs = half + ThreadLocalRandom.current().nextLong(half + 1);
+        try {
+            Thread.sleep(sleepMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("재시도 대기 중 인터럽트");
+        }
+    }
+
+    private static Counter retryCounter(MeterRegistry registry, String clientName, String reason) {
+        return Counter.builder("http.client.retries")
+                .description("외부 API 재시도 횟수")
+                .tag("client", clientName)
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -1,9 +1,10 @@
 package com.jipjung.project.external.kakao;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jipjung.project.domain.GeocodeCacheEntry;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -18,12 +19,12 @@ import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Kakao Local API geocoding client
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class KakaoGeoClient {
 
@@ -41,6 +42,18 @@ public class KakaoGeoClient {
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final KakaoGeocodeCache geocodeCache;
+
+    // 전체 호출 공용 rate limiter (다음 호출 허용 시각, nanoTime 기준)
+    private long nextPermitAtNanos = 0L;
+
+    public KakaoGeoClient(@Qualifier("kakaoRestTemplate") RestTemplate restTemplate,
+                          ObjectMapper objectMapper,
+                          KakaoGeocodeCache geocodeCache) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.geocodeCache = geocodeCache;
+    }
 
     @PostConstruct
     void logKeyStatus() {
@@ -64,6 +77,17 @@ public class KakaoGeoClient {
             return Optional.empty();
         }
 
+        Optional<GeocodeCacheEntry> cached = geocodeCache.lookup(address);
+        if (cached.isPresent()) {
+            GeocodeCacheEntry entry = cached.get();
+            if (!entry.isHit()) {
+                log.debug("[Kakao Geo] Negative cache hit - skip (address={}, retryAfter={})",
+                        address, entry.getRetryAfter());
+                return Optional.empty();
+            }
+            return Optional.of(new KakaoCoordinates(entry.getLatitude(), entry.getLongitude()));
+        }
+
         try {
             URI uri = UriComponentsBuilder.fromHttpUrl(baseUrl)
                     .queryParam("query", address)
@@ -76,6 +100,7 @@ public class KakaoGeoClient {
             headers.set("Authorization", "KakaoAK " + restKey);
             HttpEntity<Void> entity = new HttpEntity<>(headers);
 
+            acquirePermit();
             ResponseEntity<String> response = restTemplate.exchange(uri, HttpMethod.GET, entity, String.class);
             String body = response.getBody();
             if (body == null || body.isBlank()) {
@@ -87,6 +112,7 @@ public class KakaoGeoClient {
             List<KakaoAddressResponse.Document> documents = parsed.getDocuments();
             if (documents == null || documents.isEmpty()) {
                 log.info("[Kakao Geo] No geocode result (address={})", address);
+                geocodeCache.recordMiss(address);
                 return Optional.empty();
             }
 
@@ -98,15 +124,26 @@ public class KakaoGeoClient {
                 return Optional.empty();
             }
 
+            geocodeCache.recordHit(address, latitude, longitude);
             return Optional.of(new KakaoCoordinates(latitude, longitude));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
         } catch (Exception e) {
             log.warn("[Kakao Geo] Geocoding failed (address={}, error={})", address, e.getMessage());
             return Optional.empty();
-        } finally {
-            throttle();
         }
     }
 
+    /**
+     * Whether the address is a cached miss that must not be retried yet
+     */
+    public boolean isNegativelyCached(String address) {
+        return geocodeCache.lookup(address)
+                .map(entry -> !entry.isHit())
+                .orElse(false);
+    }
+
     private BigDecimal parseDecimal(String value) {
         if (value == null || value.isBlank()) {
             return null;
@@ -114,14 +151,23 @@ public class KakaoGeoClient {
         return new BigDecimal(value.trim());
     }
 
-    private void throttle() {
+    /**
+     * Shared rate limiter: spaces calls by rateLimitMs across all threads
+     * (geocoding workers and the backfill scheduler share one budget)
+     */
+    private void acquirePermit() throws InterruptedException {
         if (rateLimitMs <= 0) {
             return;
         }
-        try {
-            Thread.sleep(rateLimitMs);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitAtNanos);
+            nextPermitAtNanos = permitAt + TimeUnit.MILLISECONDS.toNanos(rateLimitMs);
+            waitNanos = permitAt - now;
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
         }
     }
 
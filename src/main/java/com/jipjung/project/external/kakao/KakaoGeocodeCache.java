@@ -0,0 +1,139 @@
+package com.jipjung.project.external.kakao;
+
+import com.jipjung.project.domain.GeocodeCacheEntry;
+import com.jipjung.project.repository.GeocodeCacheMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Geocode result cache: in-memory LRU in front of the geocode_cache table.
+ * <p>
+ * Keyed by normalized address. Both hits and misses (no documents) are stored;
+ * a miss is served from cache until its retry-after time so unresolvable
+ * addresses stop consuming the Kakao rate budget. Transient errors are never cached.
+ */
+@Component
+@Slf4j
+public class KakaoGeocodeCache {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final GeocodeCacheMapper geocodeCacheMapper;
+    private final Clock clock;
+    private final long negativeTtlHours;
+    private final Map<String, GeocodeCacheEntry> lru;
+
+    public KakaoGeocodeCache(
+            GeocodeCacheMapper geocodeCacheMapper,
+            Clock clock,
+            @Value("${kakao.api.geocode-cache-size:10000}") int maxSize,
+            @Value("${kakao.api.geocode-negative-ttl-hours:168}") long negativeTtlHours
+    ) {
+        this.geocodeCacheMapper = geocodeCacheMapper;
+        this.clock = clock;
+        this.negativeTtlHours = negativeTtlHours;
+        int capacity = Math.max(1, maxSize);
+        this.lru = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, GeocodeCacheEntry> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    /**
+     * Look up a cached result (memory first, then DB).
+     *
+     * @return a hit or an unexpired miss; empty when the address must be requested
+     */
+    public Optional<GeocodeCacheEntry> lookup(String address) {
+        String key = normalize(address);
+        if (key == null) {
+            return Optional.empty();
+        }
+        GeocodeCacheEntry entry = lru.get(key);
+        if (entry == null) {
+            entry = loadFromDb(key);
+            if (entry != null) {
+                lru.put(key, entry);
+            }
+        }
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isHit() || entry.isNegativeAt(now())) {
+            return Optional.of(entry);
+        }
+        // expired miss: drop it so the caller retries the API
+        lru.remove(key);
+        return Optional.empty();
+    }
+
+    public void recordHit(String address, BigDecimal latitude, BigDecimal longitude) {
+        store(GeocodeCacheEntry.builder()
+                .addressKey(normalize(address))
+                .resolved(true)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build());
+    }
+
+    /**
+     * Record an address that returned no documents; retried after the negative TTL.
+     */
+    public void recordMiss(String address) {
+        store(GeocodeCacheEntry.builder()
+                .addressKey(normalize(address))
+                .resolved(false)
+                .retryAfter(now().plusHours(negativeTtlHours))
+                .build());
+    }
+
+    private void store(GeocodeCacheEntry entry) {
+        if (entry.getAddressKey() == null) {
+            return;
+        }
+        lru.put(entry.getAddressKey(), entry);
+        try {
+            geocodeCacheMapper.upsert(entry);
+        } catch (Exception e) {
+            // the in-memory entry still prevents repeated calls in this process
+            log.warn("[Kakao Geo] Failed to persist geocode cache (key={}, error={})",
+                    entry.getAddressKey(), e.getMessage());
+        }
+    }
+
+    private GeocodeCacheEntry loadFromDb(String key) {
+        try {
+            return geocodeCacheMapper.findByAddressKey(key);
+        } catch (Exception e) {
+            log.warn("[Kakao Geo] Failed to read geocode cache (key={}, error={})", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    /**
+     * Trim, collapse whitespace and lowercase; null when blank or too long to key.
+     */
+    static String normalize(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+        String normalized = address.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.length() > MAX_KEY_LENGTH ? null : normalized;
+    }
+}
@@ -2,15 +2,19 @@ package com.jipjung.project.external.molit;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.xml.bind.JAXBContext;
-import jakarta.xml.bind.Unmarshaller;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
-import java.io.StringReader;
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -23,7 +27,6 @@ import jakarta.annotation.PostConstruct;
  * 페이징 처리 및 Rate Limiting 적용
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class MolitApiClient {
 
@@ -42,6 +45,11 @@ public class MolitApiClient {
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
 
+    public MolitApiClient(@Qualifier("molitRestTemplate") RestTemplate restTemplate, ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+    }
+
     @PostConstruct
     void logKeyStatus() {
         if (apiKey == null || apiKey.isBlank()) {
@@ -70,12 +78,11 @@ public class MolitApiClient {
                 URI uri = buildUri(lawdCd, dealYmd, pageNo, DEFAULT_NUM_OF_ROWS);
                 log.info("[MOLIT API] 요청 파라미터: lawdCd={}, dealYmd={}, page={}, rows={}", lawdCd, dealYmd, pageNo, DEFAULT_NUM_OF_ROWS);
 
-                String xml = restTemplate.getForObject(uri, String.class);
-                if (xml == null || xml.isBlank()) {
+                MolitApiResponse response = fetchPage(uri);
+                if (response == null) {
                     log.warn("[MOLIT API] 빈 응답: page={}", pageNo);
                     break;
                 }
-                MolitApiResponse response = parseXml(xml);
 
                 if (!response.isSuccess()) {
                     log.warn("[MOLIT API] 오류 응답: {}", response.getErrorMessage());
@@ -119,12 +126,8 @@ public class MolitApiClient {
     public boolean isHealthy() {
         try {
             URI uri = buildUri("11680", "202412", 1, 1);
-            String xml = restTemplate.getForObject(uri, String.class);
-            if (xml == null || xml.isBlank()) {
-                return false;
-            }
-            MolitApiResponse response = parseXml(xml);
-            return response.isSuccess();
+            MolitApiResponse response = fetchPage(uri);
+            return response != null && response.isSuccess();
         } catch (Exception e) {
             log.warn("[MOLIT API] 헬스체크 실패: {}", e.getMessage());
             return false;
@@ -132,57 +135,90 @@ public class MolitApiClient {
     }
 
     /**
-     * XML 응답 파싱
+     * 페이지 조회 및 파싱
+     * 응답 본문을 String으로 모으지 않고 스트림에서 바로 파싱한다
+     *
+     * @return 파싱 결과 (빈 응답이면 null)
+     */
+    private MolitApiResponse fetchPage(URI uri) {
+        return restTemplate.execute(uri, HttpMethod.GET, null,
+                response -> parseStream(response.getBody()));
+    }
+
+    /**
+     * 응답 스트림 파싱
+     * - BOM/공백/XML 시작 전 잡음 제거
+     * - JSON 응답이면 Jackson, XML이면 StAX 스트리밍 파서 사용
      */
-    private MolitApiResponse parseXml(String xml) throws Exception {
-        String sanitized = sanitizeXml(xml);
-        if (sanitized.startsWith("{")) {
-            return parseJson(sanitized);
+    private MolitApiResponse parseStream(InputStream body) throws IOException {
+        if (body == null) {
+            return null;
+        }
+        PushbackInputStream in = new PushbackInputStream(new BufferedInputStream(body), 1);
+        int first = skipToContent(in);
+        if (first == -1) {
+            return null;
         }
-        if (!sanitized.startsWith("<")) {
-            String snippet = sanitized.substring(0, Math.min(300, sanitized.length()))
-                    .replace("\n", " ")
-                    .replace("\r", " ")
-                    .replace("\t", " ");
-            log.error("[MOLIT API] XML 시작 문자가 아님 (snippet=\"{}\")", snippet);
-            throw new IllegalStateException("MOLIT API 응답이 XML이 아닙니다.");
+        if (first == '{') {
+            return parseJson(objectMapper.readTree(in));
         }
         try {
-            JAXBContext context = JAXBContext.newInstance(MolitApiResponse.class);
-            Unmarshaller unmarshaller = context.createUnmarshaller();
-            return (MolitApiResponse) unmarshaller.unmarshal(new StringReader(sanitized));
-        } catch (Exception e) {
-            String snippet = sanitized.substring(0, Math.min(300, sanitized.length()))
-                    .replace("\n", " ")
-                    .replace("\r", " ")
-                    .replace("\t", " ");
-            log.error("[MOLIT API] XML 파싱 실패 (snippet=\"{}\")", snippet, e);
-            throw e;
+            return MolitXmlStreamParser.parse(in);
+        } catch (XMLStreamException e) {
+            log.error("[MOLIT API] XML 파싱 실패: {}", e.getMessage(), e);
+            throw new IOException("MOLIT API XML 파싱 실패", e);
         }
     }
 
-    private String sanitizeXml(String xml) {
-        if (xml == null) {
-            return "";
+    /**
+     * 첫 유효 문자('<' 또는 '{')까지 건너뛰고 해당 바이트를 되돌려 놓는다
+     *
+     * @return 첫 유효 문자, 본문이 비어 있으면 -1
+     */
+    private int skipToContent(PushbackInputStream in) throws IOException {
+        ByteArrayOutputStream noise = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '<' || (b == '{' && noise.size() == 0)) {
+                in.unread(b);
+                if (noise.size() > 0) {
+                    log.warn("[MOLIT API] XML 시작 전 잡음 제거: \"{}\"", snippet(noise, 60));
+                }
+                return b;
+            }
+            if (isIgnorableLeadingByte(b, noise.size())) {
+                continue;
+            }
+            if (noise.size() < 300) {
+                noise.write(b);
+            }
         }
-        String trimmed = xml.strip();
-        if (!trimmed.isEmpty() && trimmed.charAt(0) == '\uFEFF') {
-            trimmed = trimmed.substring(1).strip();
+        if (noise.size() == 0) {
+            return -1;
         }
-        int firstTag = trimmed.indexOf('<');
-        if (firstTag > 0) {
-            String prefix = trimmed.substring(0, Math.min(60, firstTag))
-                    .replace("\n", " ")
-                    .replace("\r", " ")
-                    .replace("\t", " ");
-            log.warn("[MOLIT API] XML 시작 전 잡음 제거: \"{}\"", prefix);
-            trimmed = trimmed.substring(firstTag);
+        log.error("[MOLIT API] XML 시작 문자가 아님 (snippet=\"{}\")", snippet(noise, 300));
+        throw new IllegalStateException("MOLIT API 응답이 XML이 아닙니다.");
+    }
+
+    /**
+     * 본문 앞의 BOM(EF BB BF)과 공백은 잡음으로 취급하지 않는다
+     */
+    private boolean isIgnorableLeadingByte(int b, int noiseSize) {
+        if (noiseSize > 0) {
+            return false;
         }
-        return trimmed;
+        return b == 0xEF || b == 0xBB || b == 0xBF || Character.isWhitespace(b);
+    }
+
+    private String snippet(ByteArrayOutputStream bytes, int maxLength) {
+        String text = bytes.toString(StandardCharsets.UTF_8);
+        return text.substring(0, Math.min(maxLength, text.length()))
+                .replace("\n", " ")
+                .replace("\r", " ")
+                .replace("\t", " ");
     }
 
-    private MolitApiResponse parseJson(String json) throws Exception {
-        JsonNode root = objectMapper.readTree(json);
+    private MolitApiResponse parseJson(JsonNode root) throws IOException {
         JsonNode responseNode = root.path("response");
         if (responseNode.isMissingNode() || responseNode.isNull()) {
             log.error("[MOLIT API] JSON response 노드가 없습니다.");
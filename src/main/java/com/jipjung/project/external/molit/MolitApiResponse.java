@@ -1,32 +1,27 @@
 package com.jipjung.project.external.molit;
 
-import jakarta.xml.bind.annotation.*;
 import lombok.Data;
 
 import java.util.Collections;
 import java.util.List;
 
 /**
- * 국토부 실거래가 API XML 응답 래퍼
- * JAXB를 사용하여 XML을 Java 객체로 언마샬링
+ * 국토부 실거래가 API 응답 래퍼
+ * XML은 {@link MolitXmlStreamParser}가, JSON은 Jackson이 채운다
  */
 @Data
-@XmlRootElement(name = "response")
-@XmlAccessorType(XmlAccessType.FIELD)
 public class MolitApiResponse {
 
     private Header header;
     private Body body;
 
     @Data
-    @XmlAccessorType(XmlAccessType.FIELD)
     public static class Header {
         private String resultCode;
         private String resultMsg;
     }
 
     @Data
-    @XmlAccessorType(XmlAccessType.FIELD)
     public static class Body {
         private Items items;
         private int totalCount;
@@ -35,9 +30,7 @@ public class MolitApiResponse {
     }
 
     @Data
-    @XmlAccessorType(XmlAccessType.FIELD)
     public static class Items {
-        @XmlElement(name = "item")
         private List<MolitDealResponse> item;
     }
 
@@ -1,7 +1,5 @@
 package com.jipjung.project.external.molit;
 
-import jakarta.xml.bind.annotation.XmlAccessType;
-import jakarta.xml.bind.annotation.XmlAccessorType;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -11,10 +9,9 @@ import java.math.BigDecimal;
  * XML item 요소에 매핑되며, 파싱 헬퍼 메서드 포함
  */
 @Data
-@XmlAccessorType(XmlAccessType.FIELD)
 public class MolitDealResponse {
 
-    // === API 응답 필드 (XML 매핑) ===
+    // === API 응답 필드 (XML item 하위 요소명과 동일) ===
     private String sggCd;              // 시군구코드
     private String umdNm;              // 법정동명
     private String aptNm;              // 단지명
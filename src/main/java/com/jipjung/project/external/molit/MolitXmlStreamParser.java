@@ -0,0 +1,136 @@
+package com.jipjung.project.external.molit;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 국토부 실거래가 API XML 스트리밍 파서 (StAX)
+ * <p>
+ * 응답 전체를 String으로 만들거나 페이지마다 JAXBContext를 생성하지 않고,
+ * HTTP 응답 스트림에서 바로 {@link MolitApiResponse}를 구성한다.
+ * XMLInputFactory는 설정 후 스레드 간 공유한다 (reader는 호출마다 생성).
+ */
+final class MolitXmlStreamParser {
+
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    private MolitXmlStreamParser() {
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 외부 엔티티/DTD 차단 (XXE 방지)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * XML 스트림 파싱
+     * - response/header, response/body 구조 (정상 응답)
+     * - OpenAPI_ServiceResponse/cmmMsgHeader 구조 (게이트웨이 오류 응답)
+     *
+     * @param in XML 시작 위치의 입력 스트림 (호출자가 닫는다)
+     */
+    static MolitApiResponse parse(InputStream in) throws XMLStreamException {
+        XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            MolitApiResponse.Header header = new MolitApiResponse.Header();
+            MolitApiResponse.Body body = new MolitApiResponse.Body();
+            List<MolitDealResponse> items = new ArrayList<>();
+            boolean headerFound = false;
+
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                switch (reader.getLocalName()) {
+                    case "resultCode", "returnReasonCode" -> {
+                        header.setResultCode(reader.getElementText());
+                        headerFound = true;
+                    }
+                    case "resultMsg", "returnAuthMsg" -> header.setResultMsg(reader.getElementText());
+                    case "totalCount" -> body.setTotalCount(parseInt(reader.getElementText()));
+                    case "numOfRows" -> body.setNumOfRows(parseInt(reader.getElementText()));
+                    case "pageNo" -> body.setPageNo(parseInt(reader.getElementText()));
+                    case "item" -> items.add(readItem(reader));
+                    default -> {
+                        // response, header, body, items 등 컨테이너 요소는 하위로 진행
+                    }
+                }
+            }
+
+            MolitApiResponse.Items wrapper = new MolitApiResponse.Items();
+            wrapper.setItem(items);
+            body.setItems(wrapper);
+
+            MolitApiResponse response = new MolitApiResponse();
+            response.setHeader(headerFound ? header : null);
+            response.setBody(body);
+            return response;
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * item 요소 하나를 읽어 거래 DTO로 변환 (item 종료 태그에서 반환)
+     */
+    private static MolitDealResponse readItem(XMLStreamReader reader) throws XMLStreamException {
+        MolitDealResponse deal = new MolitDealResponse();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.END_ELEMENT && "item".equals(reader.getLocalName())) {
+                return deal;
+            }
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            String name = reader.getLocalName();
+            String value = reader.getElementText();
+            switch (name) {
+                case "sggCd" -> deal.setSggCd(value);
+                case "umdNm" -> deal.setUmdNm(value);
+                case "aptNm" -> deal.setAptNm(value);
+                case "jibun" -> deal.setJibun(value);
+                case "excluUseAr" -> deal.setExcluUseAr(value);
+                case "dealYear" -> deal.setDealYear(value);
+                case "dealMonth" -> deal.setDealMonth(value);
+                case "dealDay" -> deal.setDealDay(value);
+                case "dealAmount" -> deal.setDealAmount(value);
+                case "floor" -> deal.setFloor(value);
+                case "buildYear" -> deal.setBuildYear(value);
+                case "aptDong" -> deal.setAptDong(value);
+                case "cdealType" -> deal.setCdealType(value);
+                case "cdealDay" -> deal.setCdealDay(value);
+                case "dealingGbn" -> deal.setDealingGbn(value);
+                case "estateAgentSggNm" -> deal.setEstateAgentSggNm(value);
+                case "rgstDate" -> deal.setRgstDate(value);
+                case "slerGbn" -> deal.setSlerGbn(value);
+                case "buyerGbn" -> deal.setBuyerGbn(value);
+                case "landLeaseholdGbn" -> deal.setLandLeaseholdGbn(value);
+                default -> {
+                    // 사용하지 않는 필드는 무시
+                }
+            }
+        }
+        return deal;
+    }
+
+    private static int parseInt(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
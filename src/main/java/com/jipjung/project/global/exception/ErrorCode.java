@@ -42,11 +42,15 @@ public enum ErrorCode {
     // 409 Conflict
     DUPLICATE_EMAIL(409, "이미 존재하는 이메일입니다"),
     DUPLICATE_FAVORITE(409, "이미 관심 아파트로 등록되어 있습니다"),
+    AI_CONVERSATION_CONFLICT(409, "이미 처리된 AI 대화입니다"),
 
     // 500 Internal Server Error
     INTERNAL_SERVER_ERROR(500, "서버 내부 오류가 발생했습니다"),
     AI_SERVICE_ERROR(500, "AI 서비스 오류가 발생했습니다"),
 
+    // 503 Service Unavailable
+    AI_SERVICE_BUSY(503, "AI 요청이 많습니다. 잠시 후 다시 시도해주세요"),
+
     // Streak 관련 에러
     STREAK_ALREADY_PARTICIPATED(400, "오늘 이미 스트릭에 참여했습니다"),
     STREAK_REWARD_NOT_ELIGIBLE(400, "보상 수령 조건을 충족하지 않습니다"),
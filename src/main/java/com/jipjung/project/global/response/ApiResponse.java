@@ -58,6 +58,14 @@ public record ApiResponse<T>(
                 .body(body(HttpStatus.CREATED, "성공", data));
     }
 
+    /**
+     * 비동기 처리 접수 (202 Accepted)
+     */
+    public static <T> ResponseEntity<ApiResponse<T>> accepted(String message, T data) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(body(HttpStatus.ACCEPTED, message, data));
+    }
+
     public static ResponseEntity<ApiResponse<Void>> created() {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(body(HttpStatus.CREATED, "성공", null));
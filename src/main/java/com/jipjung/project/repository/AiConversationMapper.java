@@ -32,24 +32,37 @@ public interface AiConversationMapper {
     );
 
     /**
-     * 분석 결과 업데이트
+     * 분석 결과 업데이트 (PENDING 상태에서만)
+     *
+     * @return 영향받은 행 수 (0이면 이미 다른 요청이 처리함)
      */
-    void updateAnalysis(AiConversation conversation);
+    int updateAnalysis(AiConversation conversation);
 
     /**
-     * 이미지 추출 결과 업데이트 (EXTRACTING)
+     * 이미지 추출 결과 업데이트 (PENDING → EXTRACTING)
+     *
+     * @return 영향받은 행 수 (0이면 이미 다른 요청이 처리함)
      */
-    void updateExtraction(AiConversation conversation);
+    int updateExtraction(AiConversation conversation);
 
     /**
-     * 판결 결과 업데이트
+     * 판결 결과 업데이트 (ANALYZED 상태에서만)
+     *
+     * @return 영향받은 행 수 (0이면 이미 판결됨)
      */
-    void updateJudgment(AiConversation conversation);
+    int updateJudgment(AiConversation conversation);
 
     /**
-     * 지출 정보 + 분석 결과 업데이트 (confirm용)
+     * 지출 정보 + 분석 결과 업데이트 (confirm용, EXTRACTING 상태에서만)
+     *
+     * @return 영향받은 행 수 (0이면 이미 확인됨)
      */
-    void updateConfirm(AiConversation conversation);
+    int updateConfirm(AiConversation conversation);
+
+    /**
+     * AI 호출 실패 시 PENDING 대화 삭제
+     */
+    int deletePending(@Param("conversationId") Long conversationId);
 
     /**
      * 사용자의 분석 내역 조회 (판결 완료된 것만)
@@ -65,13 +78,4 @@ public interface AiConversationMapper {
         @Param("userId") Long userId,
         @Param("limit") int limit
     );
-
-    /**
-     * 판결 완료 대화 이벤트 조회 (기간 필터)
-     */
-    List<java.util.Map<String, Object>> findJudgedEventsByUserIdAndDateRange(
-        @Param("userId") Long userId,
-        @Param("startAt") java.time.LocalDateTime startAt,
-        @Param("endAt") java.time.LocalDateTime endAt
-    );
 }
@@ -5,6 +5,8 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
+import java.util.List;
+
 
 /**
  * 아파트 거래 Mapper
@@ -32,13 +34,12 @@ public interface ApartmentDealMapper {
 
     /**
      * 아파트의 최신 거래 금액 조회 (만원 단위)
+     * - apartment_latest_deal PK 조회 (동기화 시 유지되는 비정규화 테이블)
      */
     @Select("""
-        SELECT ad.deal_amount_num
-        FROM apartment_deal ad
-        WHERE ad.apt_seq = #{aptSeq}
-        ORDER BY ad.deal_date DESC, ad.deal_no DESC
-        LIMIT 1
+        SELECT ld.deal_amount_num
+        FROM apartment_latest_deal ld
+        WHERE ld.apt_seq = #{aptSeq}
     """)
     Long findLatestDealAmountNumByAptSeq(@Param("aptSeq") String aptSeq);
 
@@ -50,4 +51,12 @@ public interface ApartmentDealMapper {
      */
     int insert(ApartmentDeal deal);
 
+    /**
+     * 거래 내역 다건 삽입 (중복은 유니크 키로 무시)
+     *
+     * @param deals 거래 목록
+     * @return 실제 삽입된 행 수 (중복 제외)
+     */
+    int insertBatch(@Param("deals") List<ApartmentDeal> deals);
+
 }
@@ -0,0 +1,51 @@
+package com.jipjung.project.repository;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 아파트별 최신 실거래 Mapper
+ * apartment_latest_deal 테이블 (apartment_deal 최신 1건 비정규화)
+ */
+@Mapper
+public interface ApartmentLatestDealMapper {
+
+    /**
+     * 지정 아파트들의 최신 거래를 apartment_deal 기준으로 다시 계산해 반영
+     * 동기화 청크 저장 후 호출 (청크에 포함된 아파트만 대상)
+     *
+     * @param aptSeqs 아파트코드 목록
+     * @return 영향받은 행 수
+     */
+    int refreshByAptSeqs(@Param("aptSeqs") List<String> aptSeqs);
+
+    /**
+     * 지정 아파트들의 목록 정렬 키(apartment.latest_deal_date)를 최신 거래 테이블과 맞춤
+     * refreshByAptSeqs 직후 같은 트랜잭션에서 호출 (거래 없음은 1000-01-01)
+     *
+     * @param aptSeqs 아파트코드 목록
+     * @return 영향받은 행 수
+     */
+    int syncSortKeysByAptSeqs(@Param("aptSeqs") List<String> aptSeqs);
+
+    /**
+     * 전체 아파트 목록 정렬 키 동기화 (재구축용)
+     *
+     * @return 영향받은 행 수
+     */
+    int syncAllSortKeys();
+
+    /**
+     * 최신 거래 테이블 전체 삭제 (재구축용)
+     */
+    int deleteAll();
+
+    /**
+     * apartment_deal 전체에서 아파트별 최신 1건을 다시 적재 (재구축용)
+     *
+     * @return 적재된 행 수
+     */
+    int insertAllFromDeals();
+}
@@ -1,12 +1,16 @@
 package com.jipjung.project.repository;
 
+import com.jipjung.project.controller.dto.request.ApartmentSearchCursor;
 import com.jipjung.project.controller.dto.request.ApartmentSearchRequest;
 import com.jipjung.project.controller.dto.response.RegionCoordinatesResponse;
 import com.jipjung.project.domain.Apartment;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.annotations.Update;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,9 +24,15 @@ public interface ApartmentMapper {
     /**
      * 아파트 목록 조회 (최신 실거래 1건씩 포함)
      * @param request 검색 조건 및 페이징 정보
+     * @param cursor  커서 (null이면 OFFSET 페이징, 있으면 keyset seek)
+     * @param limit   조회 건수 (다음 페이지 판별을 위해 size + 1)
+     * @param keywordAptSeqs 검색 인덱스로 해석한 keyword 후보 (null이면 LIKE 검색)
      * @return 아파트 + 최신 거래 리스트
      */
-    List<Apartment> findAllWithLatestDeal(@Param("request") ApartmentSearchRequest request);
+    List<Apartment> findAllWithLatestDeal(@Param("request") ApartmentSearchRequest request,
+                                          @Param("cursor") ApartmentSearchCursor cursor,
+                                          @Param("limit") int limit,
+                                          @Param("keywordAptSeqs") List<String> keywordAptSeqs);
 
     /**
      * 아파트 상세 조회 (모든 실거래 이력 포함)
@@ -48,9 +58,17 @@ public interface ApartmentMapper {
     /**
      * 검색 조건에 맞는 아파트 개수 조회 (페이징용)
      * @param request 검색 조건
+     * @param keywordAptSeqs 검색 인덱스로 해석한 keyword 후보 (null이면 LIKE 검색)
      * @return 아파트 개수
      */
-    int count(@Param("request") ApartmentSearchRequest request);
+    int count(@Param("request") ApartmentSearchRequest request,
+              @Param("keywordAptSeqs") List<String> keywordAptSeqs);
+
+    /**
+     * 검색 인덱스 적재용 전체 아파트 조회 (apt_seq, apt_nm, umd_nm, road_nm)
+     * @param handler 행 단위 처리 핸들러 (전체 목록을 메모리에 올리지 않음)
+     */
+    void findAllForSearchIndex(ResultHandler<Apartment> handler);
 
     /**
      * 지역명으로 평균 좌표 조회
@@ -72,8 +90,9 @@ public interface ApartmentMapper {
 
     /**
      * 좌표가 없는 아파트 조회 (배치 지오코딩용)
+     * 재시도 시각(geocode_retry_at)이 지나지 않은 아파트는 제외
      */
-    List<Apartment> findMissingCoordinates(@Param("limit") int limit);
+    List<Apartment> findMissingCoordinates(@Param("limit") int limit, @Param("now") LocalDateTime now);
 
     /**
      * 아파트 정보 Upsert (있으면 업데이트, 없으면 삽입)
@@ -84,6 +103,14 @@ public interface ApartmentMapper {
      */
     int upsert(Apartment apartment);
 
+    /**
+     * 아파트 정보 다건 Upsert (동기화 청크 저장용)
+     *
+     * @param apartments 아파트 목록 (apt_seq 중복 제거된 상태)
+     * @return 영향받은 행 수 (신규 1, 갱신 2 기준 합계)
+     */
+    int upsertBatch(@Param("apartments") List<Apartment> apartments);
+
     /**
      * 아파트 정보 삽입
      *
@@ -101,4 +128,16 @@ public interface ApartmentMapper {
             @Param("latitude") java.math.BigDecimal latitude,
             @Param("longitude") java.math.BigDecimal longitude
     );
+
+    /**
+     * 지오코딩 실패 아파트의 재시도 가능 시각 기록 (배치가 같은 아파트에 멈추지 않도록)
+     * updated_at은 유지한다 (ON UPDATE로 갱신되면 응답의 updatedAt과 보정 대상 정렬이 바뀜)
+     */
+    @Update("""
+        UPDATE apartment
+        SET geocode_retry_at = #{retryAt},
+            updated_at = updated_at
+        WHERE apt_seq = #{aptSeq}
+        """)
+    int updateGeocodeRetryAt(@Param("aptSeq") String aptSeq, @Param("retryAt") LocalDateTime retryAt);
 }
@@ -0,0 +1,32 @@
+package com.jipjung.project.repository;
+
+import com.jipjung.project.domain.CollectionJourneySnapshot;
+import org.apache.ibatis.annotations.*;
+
+/**
+ * 완성된 컬렉션 여정 스냅샷 Mapper
+ */
+@Mapper
+public interface CollectionJourneySnapshotMapper {
+
+    @Select("""
+        SELECT collection_id, user_id, schema_version, payload_json, etag, created_at
+        FROM collection_journey_snapshot
+        WHERE collection_id = #{collectionId}
+        """)
+    CollectionJourneySnapshot findByCollectionId(@Param("collectionId") Long collectionId);
+
+    /**
+     * 스냅샷 삽입 또는 덮어쓰기 (최초 생성/스키마 버전 갱신)
+     */
+    @Insert("""
+        INSERT INTO collection_journey_snapshot (collection_id, user_id, schema_version, payload_json, etag)
+        VALUES (#{collectionId}, #{userId}, #{schemaVersion}, #{payloadJson}, #{etag})
+        ON DUPLICATE KEY UPDATE
+            schema_version = VALUES(schema_version),
+            payload_json = VALUES(payload_json),
+            etag = VALUES(etag),
+            created_at = CURRENT_TIMESTAMP
+        """)
+    int upsert(CollectionJourneySnapshot snapshot);
+}
@@ -1,11 +1,14 @@
 package com.jipjung.project.repository;
 
 import com.jipjung.project.domain.UserCollection;
+import com.jipjung.project.repository.dto.CollectionRow;
+import com.jipjung.project.repository.dto.InProgressSummaryRow;
+import com.jipjung.project.repository.dto.JourneyTimelineRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 컬렉션 Mapper
@@ -21,7 +24,7 @@ public interface CollectionMapper {
      * @param userId 사용자 ID
      * @return 컬렉션 목록 (테마, 아파트, 위치 정보 조인)
      */
-    List<Map<String, Object>> findByUserId(@Param("userId") Long userId);
+    List<CollectionRow> findByUserId(@Param("userId") Long userId);
 
     /**
      * 컬렉션 상세 조회 (목록 조회와 동일한 조인 결과 단건)
@@ -30,7 +33,7 @@ public interface CollectionMapper {
      * @param collectionId 컬렉션 ID
      * @return 컬렉션 상세 (테마, 아파트, 위치 정보 조인), 없으면 null
      */
-    Map<String, Object> findDetailByUserIdAndCollectionId(
+    CollectionRow findDetailByUserIdAndCollectionId(
             @Param("userId") Long userId,
             @Param("collectionId") Long collectionId
     );
@@ -87,14 +90,23 @@ public interface CollectionMapper {
     boolean hasActiveDreamHome(@Param("userId") Long userId);
 
     /**
-     * 저축 여정 상세 조회 (Phase별 이벤트)
+     * 저축 여정 타임라인 조회 (Phase별 이벤트)
      * <p>
-     * 윈도우 함수를 사용하여 누적합 계산 최적화
+     * 저축/AI 판결/일일 활동/마일스톤 보상을 UNION ALL 한 번으로 조회하며,
+     * 기간 필터와 정렬(발생 시각, 이벤트 ID, 이벤트 유형)은 DB에서 처리한다.
      *
-     * @param dreamHomeId 드림홈 ID
-     * @return 저축 이벤트 목록 (누적합 포함)
+     * @param dreamHomeId 드림홈 ID (저축 내역 기준)
+     * @param userId      사용자 ID (AI 판결/활동/마일스톤 기준)
+     * @param startAt     시작 시각 (포함)
+     * @param endAt       종료 시각 (포함)
+     * @return 시간순 정렬된 타임라인 행 목록
      */
-    List<Map<String, Object>> findJourneyEvents(@Param("dreamHomeId") Long dreamHomeId);
+    List<JourneyTimelineRow> findJourneyTimeline(
+            @Param("dreamHomeId") Long dreamHomeId,
+            @Param("userId") Long userId,
+            @Param("startAt") LocalDateTime startAt,
+            @Param("endAt") LocalDateTime endAt
+    );
 
     /**
      * 진행 중인 드림홈 요약 정보 조회
@@ -104,6 +116,6 @@ public interface CollectionMapper {
      * @param userId 사용자 ID
      * @return 진행 중 드림홈 정보 (없으면 null)
      */
-    Map<String, Object> findInProgressSummary(@Param("userId") Long userId);
+    InProgressSummaryRow findInProgressSummary(@Param("userId") Long userId);
 }
 
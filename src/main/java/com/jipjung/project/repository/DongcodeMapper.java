@@ -1,9 +1,14 @@
 package com.jipjung.project.repository;
 
+import com.jipjung.project.repository.dto.DongcodeRow;
+import org.apache.ibatis.annotations.Arg;
+import org.apache.ibatis.annotations.ConstructorArgs;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
+import java.util.List;
+
 /**
  * 법정동코드 조회 Mapper
  */
@@ -73,4 +78,20 @@ public interface DongcodeMapper {
         LIMIT 1
         """)
     String findRegionPrefixBySggCd(@Param("sggCd") String sggCd);
+
+    /**
+     * 전체 법정동코드 조회 (참조 데이터 캐시 적재용)
+     */
+    @Select("""
+        SELECT dong_code, sido_name, gugun_name, dong_name
+        FROM dongcode
+        ORDER BY dong_code
+        """)
+    @ConstructorArgs({
+            @Arg(column = "dong_code", javaType = String.class),
+            @Arg(column = "sido_name", javaType = String.class),
+            @Arg(column = "gugun_name", javaType = String.class),
+            @Arg(column = "dong_name", javaType = String.class)
+    })
+    List<DongcodeRow> findAll();
 }
@@ -35,6 +35,14 @@ public interface DreamHomeMapper {
      */
     DreamHome findById(@Param("dreamHomeId") Long dreamHomeId);
 
+    /**
+     * 드림홈 단건 조회 + row lock (FOR UPDATE)
+     * <p>
+     * 저축 롤업 재구축처럼 같은 드림홈의 저축 기록과 직렬화가 필요한 구간에서 사용합니다.
+     * 삭제 여부와 무관하게 잠그며 아파트 정보는 JOIN하지 않습니다.
+     */
+    DreamHome findByIdForUpdate(@Param("dreamHomeId") Long dreamHomeId);
+
     /**
      * 드림홈 생성
      */
@@ -0,0 +1,75 @@
+package com.jipjung.project.repository;
+
+import com.jipjung.project.domain.DreamHomeProgress;
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 드림홈 목표 XP 진행 원장 Mapper
+ */
+@Mapper
+public interface DreamHomeProgressMapper {
+
+    @Select("""
+        SELECT dream_home_id, user_id, total_exp, current_phase, last_event_at, updated_at
+        FROM dream_home_progress
+        WHERE dream_home_id = #{dreamHomeId}
+        """)
+    DreamHomeProgress findByDreamHomeId(@Param("dreamHomeId") Long dreamHomeId);
+
+    /**
+     * 증분 갱신 전 행 잠금 (동일 드림홈 EXP 이벤트 직렬화)
+     */
+    @Select("""
+        SELECT dream_home_id, user_id, total_exp, current_phase, last_event_at, updated_at
+        FROM dream_home_progress
+        WHERE dream_home_id = #{dreamHomeId}
+        FOR UPDATE
+        """)
+    DreamHomeProgress findByDreamHomeIdForUpdate(@Param("dreamHomeId") Long dreamHomeId);
+
+    @Update("""
+        UPDATE dream_home_progress
+        SET total_exp = #{totalExp},
+            current_phase = #{currentPhase},
+            last_event_at = #{lastEventAt},
+            updated_at = CURRENT_TIMESTAMP
+        WHERE dream_home_id = #{dreamHomeId}
+        """)
+    int updateProgress(
+            @Param("dreamHomeId") Long dreamHomeId,
+            @Param("totalExp") int totalExp,
+            @Param("currentPhase") int currentPhase,
+            @Param("lastEventAt") LocalDateTime lastEventAt
+    );
+
+    /**
+     * 원장 삽입 또는 덮어쓰기 (초기화/재구축)
+     */
+    @Insert("""
+        INSERT INTO dream_home_progress (dream_home_id, user_id, total_exp, current_phase, last_event_at)
+        VALUES (#{dreamHomeId}, #{userId}, #{totalExp}, #{currentPhase}, #{lastEventAt})
+        ON DUPLICATE KEY UPDATE
+            total_exp = VALUES(total_exp),
+            current_phase = VALUES(current_phase),
+            last_event_at = VALUES(last_event_at),
+            updated_at = CURRENT_TIMESTAMP
+        """)
+    int upsert(DreamHomeProgress progress);
+
+    /**
+     * 검증 대상 활성 드림홈 ID (keyset 페이징)
+     */
+    @Select("""
+        SELECT dream_home_id
+        FROM dream_home
+        WHERE status = 'ACTIVE'
+          AND is_deleted = false
+          AND dream_home_id > #{afterId}
+        ORDER BY dream_home_id
+        LIMIT #{limit}
+        """)
+    List<Long> findActiveDreamHomeIds(@Param("afterId") long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,40 @@
+package com.jipjung.project.repository;
+
+import com.jipjung.project.domain.GeocodeCacheEntry;
+import org.apache.ibatis.annotations.*;
+
+/**
+ * 지오코딩 결과 캐시 Mapper
+ * Kakao API 중복 호출 방지용 (성공/실패 모두 저장)
+ */
+@Mapper
+public interface GeocodeCacheMapper {
+
+    /**
+     * 정규화 주소로 캐시 조회
+     */
+    @Select("""
+        SELECT address_key, resolved, latitude, longitude, retry_after, updated_at
+        FROM geocode_cache
+        WHERE address_key = #{addressKey}
+        """)
+    GeocodeCacheEntry findByAddressKey(@Param("addressKey") String addressKey);
+
+    /**
+     * 캐시 삽입 또는 갱신 (Upsert)
+     *
+     * @param entry 캐시 항목
+     * @return 영향받은 행 수
+     */
+    @Insert("""
+        INSERT INTO geocode_cache (address_key, resolved, latitude, longitude, retry_after)
+        VALUES (#{addressKey}, #{resolved}, #{latitude}, #{longitude}, #{retryAfter})
+        ON DUPLICATE KEY UPDATE
+            resolved = VALUES(resolved),
+            latitude = VALUES(latitude),
+            longitude = VALUES(longitude),
+            retry_after = VALUES(retry_after),
+            updated_at = CURRENT_TIMESTAMP
+        """)
+    int upsert(GeocodeCacheEntry entry);
+}
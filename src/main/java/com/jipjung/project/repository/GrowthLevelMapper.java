@@ -4,6 +4,8 @@ import com.jipjung.project.domain.GrowthLevel;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 /**
  * 성장 레벨 Mapper
  */
@@ -15,6 +17,11 @@ public interface GrowthLevelMapper {
      */
     GrowthLevel findByLevel(@Param("level") int level);
 
+    /**
+     * 전체 레벨 조회 (레벨 순, 참조 데이터 캐시 적재용)
+     */
+    List<GrowthLevel> findAll();
+
     /**
      * 총 레벨 수 조회
      */
@@ -36,6 +36,15 @@ public interface HouseThemeMapper {
      */
     HouseTheme findById(@Param("themeId") Integer themeId);
 
+    /**
+     * 삭제되지 않은 전체 테마 조회
+     * <p>
+     * 비활성 테마도 포함 (findById와 같은 조건). 참조 데이터 캐시 적재에 사용.
+     *
+     * @return 테마 목록 (theme_id 순 정렬)
+     */
+    List<HouseTheme> findAll();
+
     /**
      * 테마가 존재하고 활성 상태인지 확인
      * <p>
@@ -0,0 +1,113 @@
+package com.jipjung.project.repository;
+
+import com.jipjung.project.domain.SavingsDailyBalance;
+import org.apache.ibatis.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 드림홈 일별 저축 잔액 롤업 Mapper
+ */
+@Mapper
+public interface SavingsDailyBalanceMapper {
+
+    /**
+     * 기간 내 일별 잔액 (일자 순, 저축이 없는 날은 행 없음)
+     */
+    @Select("""
+        SELECT dream_home_id, balance_date, net_amount, closing_balance, updated_at
+        FROM savings_daily_balance
+        WHERE dream_home_id = #{dreamHomeId}
+          AND balance_date BETWEEN #{startDate} AND #{endDate}
+        ORDER BY balance_date
+        """)
+    List<SavingsDailyBalance> findByDreamHomeIdAndDateRange(
+            @Param("dreamHomeId") Long dreamHomeId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 기준일 이전 마지막 행 (기간 시작 잔액 / 당일 첫 저축의 이월 잔액)
+     */
+    @Select("""
+        SELECT dream_home_id, balance_date, net_amount, closing_balance, updated_at
+        FROM savings_daily_balance
+        WHERE dream_home_id = #{dreamHomeId}
+          AND balance_date < #{beforeDate}
+        ORDER BY balance_date DESC
+        LIMIT 1
+        """)
+    SavingsDailyBalance findLatestBefore(
+            @Param("dreamHomeId") Long dreamHomeId,
+            @Param("beforeDate") LocalDate beforeDate
+    );
+
+    /**
+     * 당일 행에 순입금 가산 (행이 없으면 0건)
+     */
+    @Update("""
+        UPDATE savings_daily_balance
+        SET net_amount = net_amount + #{amount},
+            closing_balance = closing_balance + #{amount},
+            updated_at = CURRENT_TIMESTAMP
+        WHERE dream_home_id = #{dreamHomeId}
+          AND balance_date = #{balanceDate}
+        """)
+    int addToDay(
+            @Param("dreamHomeId") Long dreamHomeId,
+            @Param("balanceDate") LocalDate balanceDate,
+            @Param("amount") long amount
+    );
+
+    /**
+     * 당일 첫 저축 행 생성 (동시 생성 시 가산으로 병합)
+     */
+    @Insert("""
+        INSERT INTO savings_daily_balance (dream_home_id, balance_date, net_amount, closing_balance)
+        VALUES (#{dreamHomeId}, #{balanceDate}, #{amount}, #{openingBalance} + #{amount})
+        ON DUPLICATE KEY UPDATE
+            net_amount = net_amount + VALUES(net_amount),
+            closing_balance = closing_balance + VALUES(net_amount),
+            updated_at = CURRENT_TIMESTAMP
+        """)
+    int insertDay(
+            @Param("dreamHomeId") Long dreamHomeId,
+            @Param("balanceDate") LocalDate balanceDate,
+            @Param("openingBalance") long openingBalance,
+            @Param("amount") long amount
+    );
+
+    /**
+     * 일별 행 삽입 또는 덮어쓰기 (백필 재구축)
+     */
+    @Insert("""
+        INSERT INTO savings_daily_balance (dream_home_id, balance_date, net_amount, closing_balance)
+        VALUES (#{dreamHomeId}, #{balanceDate}, #{netAmount}, #{closingBalance})
+        ON DUPLICATE KEY UPDATE
+            net_amount = VALUES(net_amount),
+            closing_balance = VALUES(closing_balance),
+            updated_at = CURRENT_TIMESTAMP
+        """)
+    int upsert(SavingsDailyBalance balance);
+
+    @Delete("""
+        DELETE FROM savings_daily_balance
+        WHERE dream_home_id = #{dreamHomeId}
+        """)
+    int deleteByDreamHomeId(@Param("dreamHomeId") Long dreamHomeId);
+
+    /**
+     * 백필 대상 드림홈 ID (삭제되지 않은 전체, keyset 페이징)
+     */
+    @Select("""
+        SELECT dream_home_id
+        FROM dream_home
+        WHERE is_deleted = false
+          AND dream_home_id > #{afterId}
+        ORDER BY dream_home_id
+        LIMIT #{limit}
+        """)
+    List<Long> findDreamHomeIds(@Param("afterId") long afterId, @Param("limit") int limit);
+}
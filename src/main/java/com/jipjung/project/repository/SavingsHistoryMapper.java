@@ -1,6 +1,7 @@
 package com.jipjung.project.repository;
 
 import com.jipjung.project.domain.SavingsHistory;
+import com.jipjung.project.repository.dto.SavingsDailyNetRow;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -35,4 +36,10 @@ public interface SavingsHistoryMapper {
             @Param("startDateTime") LocalDateTime startDateTime,
             @Param("endDateTime") LocalDateTime endDateTime
     );
+
+    /**
+     * 일별 순입금 집계 (created_at 일자 기준 ASC)
+     * - 일별 잔액 롤업(savings_daily_balance) 백필용
+     */
+    List<SavingsDailyNetRow> findDailyNetByDreamHomeId(@Param("dreamHomeId") Long dreamHomeId);
 }
@@ -0,0 +1,62 @@
+package com.jipjung.project.repository;
+
+import com.jipjung.project.domain.UserDsrSnapshot;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+/**
+ * 사용자 최신 PRO DSR 스냅샷 Mapper
+ */
+@Mapper
+public interface UserDsrSnapshotMapper {
+
+    @Select("""
+        SELECT user_id, history_id, grade, current_dsr_percent, dsr_after_max_loan_percent,
+               max_loan_amount, annual_income, age_at_simulation, recognized_annual_income,
+               simulated_at, updated_at
+        FROM user_dsr_snapshot
+        WHERE user_id = #{userId}
+        """)
+    UserDsrSnapshot findByUserId(@Param("userId") Long userId);
+
+    /**
+     * 스냅샷 삽입 또는 덮어쓰기 (시뮬레이션 시 / 이력 이관 시)
+     */
+    @Insert("""
+        INSERT INTO user_dsr_snapshot
+            (user_id, history_id, grade, current_dsr_percent, dsr_after_max_loan_percent,
+             max_loan_amount, annual_income, age_at_simulation, recognized_annual_income, simulated_at)
+        VALUES
+            (#{userId}, #{historyId}, #{grade}, #{currentDsrPercent}, #{dsrAfterMaxLoanPercent},
+             #{maxLoanAmount}, #{annualIncome}, #{ageAtSimulation}, #{recognizedAnnualIncome},
+             #{simulatedAt})
+        ON DUPLICATE KEY UPDATE
+            history_id = VALUES(history_id),
+            grade = VALUES(grade),
+            current_dsr_percent = VALUES(current_dsr_percent),
+            dsr_after_max_loan_percent = VALUES(dsr_after_max_loan_percent),
+            max_loan_amount = VALUES(max_loan_amount),
+            annual_income = VALUES(annual_income),
+            age_at_simulation = VALUES(age_at_simulation),
+            recognized_annual_income = VALUES(recognized_annual_income),
+            simulated_at = VALUES(simulated_at),
+            updated_at = CURRENT_TIMESTAMP
+        """)
+    int upsert(UserDsrSnapshot snapshot);
+
+    /**
+     * PRO 이력은 있지만 스냅샷이 없는 사용자 ID (이관 대상, keyset 페이징)
+     */
+    @Select("""
+        SELECT DISTINCT h.user_id
+        FROM dsr_calculation_history h
+        LEFT JOIN user_dsr_snapshot s ON s.user_id = h.user_id
+        WHERE h.dsr_mode = 'PRO'
+          AND s.user_id IS NULL
+          AND h.user_id > #{afterId}
+        ORDER BY h.user_id
+        LIMIT #{limit}
+        """)
+    List<Long> findUserIdsWithoutSnapshot(@Param("afterId") long afterId, @Param("limit") int limit);
+}
@@ -0,0 +1,28 @@
+package com.jipjung.project.repository.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 완성된 집 컬렉션 조회 행 (CollectionMapper.findByUserId / findDetailByUserIdAndCollectionId)
+ * <p>
+ * user_collection + house_theme + dream_home + apartment + dongcode 조인 결과.
+ * 드림홈/아파트가 삭제된 경우 해당 컬럼은 null이다.
+ */
+public record CollectionRow(
+        Long collectionId,
+        Integer themeId,
+        String themeName,
+        String themeCode,
+        Long dreamHomeId,
+        String propertyName,
+        String location,
+        Long targetAmount,
+        LocalDate startDate,
+        Integer savingPeriodDays,
+        LocalDateTime completedAt,
+        Boolean isMainDisplay,
+        Long totalSaved,
+        String houseName
+) {
+}
@@ -0,0 +1,17 @@
+package com.jipjung.project.repository.dto;
+
+/**
+ * 법정동코드 행 (DongcodeMapper.findAll)
+ *
+ * @param dongCode  법정동코드 10자리 (앞 5자리가 시군구코드)
+ * @param sidoName  시도명
+ * @param gugunName 구군명
+ * @param dongName  동명 (시군구 단위 코드는 null)
+ */
+public record DongcodeRow(
+        String dongCode,
+        String sidoName,
+        String gugunName,
+        String dongName
+) {
+}
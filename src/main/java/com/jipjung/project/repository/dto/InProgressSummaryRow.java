@@ -0,0 +1,14 @@
+package com.jipjung.project.repository.dto;
+
+/**
+ * 진행 중인 드림홈 요약 행 (CollectionMapper.findInProgressSummary)
+ */
+public record InProgressSummaryRow(
+        Long dreamHomeId,
+        String themeCode,
+        String propertyName,
+        String location,
+        Long targetAmount,
+        Long currentSavedAmount
+) {
+}
@@ -0,0 +1,34 @@
+package com.jipjung.project.repository.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저축 여정 타임라인 행 (CollectionMapper.findJourneyTimeline)
+ * <p>
+ * 저축 내역 / AI 판결 / 일일 활동 / 마일스톤 보상을 하나의 UNION ALL 결과로 받는다.
+ * 이벤트 유형별로 사용하지 않는 컬럼은 null이다.
+ *
+ * @param eventId        원본 테이블 PK
+ * @param eventType      SAVINGS_DEPOSIT, SAVINGS_WITHDRAW, AI_JUDGMENT, STREAK_{활동유형}, STREAK_MILESTONE
+ * @param eventAt        이벤트 발생 시각
+ * @param amount         저축/인출 금액 (저축 이벤트만)
+ * @param expChange      경험치 변화량 (저축 이벤트는 null - ExpPolicy로 계산)
+ * @param memo           저축 메모 (저축 이벤트만)
+ * @param judgmentResult AI 판결 결과 (AI 판결만)
+ * @param judgmentScore  AI 판결 점수 (AI 판결만)
+ * @param activityType   활동 유형 (일일 활동만)
+ * @param milestoneDays  마일스톤 일수 (마일스톤 보상만)
+ */
+public record JourneyTimelineRow(
+        Long eventId,
+        String eventType,
+        LocalDateTime eventAt,
+        Long amount,
+        Integer expChange,
+        String memo,
+        String judgmentResult,
+        Integer judgmentScore,
+        String activityType,
+        Integer milestoneDays
+) {
+}
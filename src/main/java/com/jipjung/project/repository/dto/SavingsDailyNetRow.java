@@ -0,0 +1,15 @@
+package com.jipjung.project.repository.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 순입금 집계 행 (SavingsHistoryMapper.findDailyNetByDreamHomeId)
+ *
+ * @param balanceDate 저축 일자 (created_at 기준)
+ * @param netAmount   당일 순입금 (입금 - 출금)
+ */
+public record SavingsDailyNetRow(
+        LocalDate balanceDate,
+        Long netAmount
+) {
+}
@@ -0,0 +1,384 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.controller.dto.request.JudgmentRequest;
+import com.jipjung.project.controller.dto.request.SpendingAnalyzeRequest;
+import com.jipjung.project.controller.dto.response.AiConversationResultResponse;
+import com.jipjung.project.controller.dto.response.AiJobAcceptedResponse;
+import com.jipjung.project.controller.dto.response.JudgmentResponse;
+import com.jipjung.project.controller.dto.response.SpendingAnalyzeResponse;
+import com.jipjung.project.domain.AiConversation;
+import com.jipjung.project.domain.ConversationStatus;
+import com.jipjung.project.global.exception.BusinessException;
+import com.jipjung.project.global.exception.ErrorCode;
+import com.jipjung.project.global.exception.ResourceNotFoundException;
+import com.jipjung.project.repository.AiConversationMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 AI 작업 서비스
+ * <p>
+ * 요청 스레드에서는 입력 검증과 대화 저장(PENDING)만 수행하고 202로 응답한다.
+ * Gemini 호출은 전용 풀(aiJobExecutor)에서 실행되며, 대화 상태는 기존
+ * {@link ConversationStatus} 흐름(PENDING → EXTRACTING/ANALYZED → JUDGED)을 그대로 따른다.
+ * <ul>
+ *   <li>결과 조회: 폴링(GET /conversations/{id}) 또는 SSE(GET /conversations/{id}/events)</li>
+ *   <li>작업 결과는 인메모리로 보관하고 ai.async.result-ttl-minutes 후 제거 (이후에는 DB 상태로 응답)</li>
+ *   <li>풀 포화 시 AI_SERVICE_BUSY(503)</li>
+ * </ul>
+ */
+@Service
+@Slf4j
+public class AiJobService {
+
+    private static final String EVENT_STATUS = "status";
+    private static final String EVENT_RESULT = "result";
+    private static final String EVENT_DELTA = "delta";
+    private static final String EVENT_ERROR = "error";
+
+    private final AiManagerService aiManagerService;
+    private final AiConversationMapper aiConversationMapper;
+    private final Executor aiJobExecutor;
+    private final long resultTtlMs;
+    private final long sseTimeoutMs;
+
+    private final Map<Long, AiJob> jobs = new ConcurrentHashMap<>();
+
+    public AiJobService(
+            AiManagerService aiManagerService,
+            AiConversationMapper aiConversationMapper,
+            @Qualifier("aiJobExecutor") Executor aiJobExecutor,
+            @Value("${ai.async.result-ttl-minutes:10}") long resultTtlMinutes,
+            @Value("${ai.async.sse-timeout-ms:90000}") long sseTimeoutMs
+    ) {
+        this.aiManagerService = aiManagerService;
+        this.aiConversationMapper = aiConversationMapper;
+        this.aiJobExecutor = aiJobExecutor;
+        this.resultTtlMs = TimeUnit.MINUTES.toMillis(resultTtlMinutes);
+        this.sseTimeoutMs = sseTimeoutMs;
+    }
+
+    // =========================================================================
+    // Submit
+    // =========================================================================
+
+    /**
+     * 지출 분석 비동기 접수
+     */
+    public AiJobAcceptedResponse submitAnalysis(Long userId, SpendingAnalyzeRequest request, MultipartFile imageFile) {
+        AiManagerService.PreparedAnalysis prepared = aiManagerService.prepareAnalysis(userId, request, imageFile);
+        Long conversationId = prepared.conversation().getConversationId();
+
+        try {
+            submit(conversationId, userId, () -> aiManagerService.completeAnalysis(prepared));
+        } catch (BusinessException e) {
+            // 접수 실패: 방금 저장한 PENDING 대화 정리
+            aiConversationMapper.deletePending(conversationId);
+            throw e;
+        }
+        return AiJobAcceptedResponse.of(conversationId, ConversationStatus.PENDING.name());
+    }
+
+    /**
+     * 최종 판결 비동기 접수
+     */
+    public AiJobAcceptedResponse submitJudgment(Long userId, JudgmentRequest request) {
+        AiManagerService.PreparedJudgment prepared = aiManagerService.prepareJudgment(userId, request);
+        Long conversationId = prepared.conversation().getConversationId();
+
+        submit(conversationId, userId, () -> aiManagerService.completeJudgment(prepared));
+        return AiJobAcceptedResponse.of(conversationId, prepared.conversation().getStatus());
+    }
+
+    private void submit(Long conversationId, Long userId, Supplier<Object> task) {
+        AiJob job = registerJob(conversationId, userId);
+        execute(conversationId, job, () -> run(conversationId, job, task));
+    }
+
+    /**
+     * 진행 중 작업 등록 (같은 대화에 진행 중인 작업이 있으면 충돌)
+     */
+    private AiJob registerJob(Long conversationId, Long userId) {
+        AiJob job = new AiJob(userId);
+        AiJob previous = jobs.compute(conversationId, (id, existing) ->
+                existing != null && existing.isRunning() ? existing : job);
+        if (previous != job) {
+            throw new BusinessException(ErrorCode.AI_CONVERSATION_CONFLICT);
+        }
+        return job;
+    }
+
+    private void execute(Long conversationId, AiJob job, Runnable runnable) {
+        try {
+            aiJobExecutor.execute(runnable);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(conversationId, job);
+            log.warn("[AiJob] 작업 풀 포화로 거부: conversationId={}", conversationId);
+            throw new BusinessException(ErrorCode.AI_SERVICE_BUSY);
+        }
+    }
+
+    private void run(Long conversationId, AiJob job, Supplier<Object> task) {
+        try {
+            Object result = task.get();
+            job.succeed(result);
+            log.info("[AiJob] 완료: conversationId={}", conversationId);
+        } catch (BusinessException e) {
+            job.fail(e.getMessage());
+            log.warn("[AiJob] 실패: conversationId={}, error={}", conversationId, e.getErrorCode());
+        } catch (Exception e) {
+            job.fail(ErrorCode.AI_SERVICE_ERROR.getMessage());
+            log.error("[AiJob] 실패: conversationId={}", conversationId, e);
+        }
+        publish(conversationId, job);
+    }
+
+    /**
+     * 최종 판결 스트리밍 (SSE)
+     * <p>
+     * 생성 중인 판결 텍스트를 delta 이벤트로 바로 전달하고, 스트림이 끝나면
+     * 파싱/경험치 반영 후 result 이벤트(JudgmentResponse)를 보내고 종료한다.
+     * 실패 시 error 이벤트(메시지)를 보낸다.
+     * 스트리밍 중에도 일반 작업처럼 등록되어 폴링/구독에 진행 상태가 보이고, 같은 대화의 중복 판결은 충돌로 거절된다.
+     * <p>
+     * 클라이언트 연결이 끊기면(전송 실패, 타임아웃, 비동기 요청 오류) 모델 스트림을 dispose해
+     * 토큰 생성을 멈추고 판결 슬롯과 작업 스레드를 바로 반납한다. 판결은 반영되지 않으므로 다시 요청할 수 있다.
+     */
+    public SseEmitter streamJudgment(Long userId, JudgmentRequest request) {
+        AiManagerService.PreparedJudgment prepared = aiManagerService.prepareJudgment(userId, request);
+        Long conversationId = prepared.conversation().getConversationId();
+        AiJob job = registerJob(conversationId, userId);
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        Disposable.Swap modelStream = Disposables.swap();
+        emitter.onCompletion(modelStream::dispose);
+        emitter.onTimeout(modelStream::dispose);
+        emitter.onError(e -> modelStream.dispose());
+
+        execute(conversationId, job, () -> {
+            try {
+                JudgmentResponse response = aiManagerService.completeJudgment(prepared,
+                        delta -> {
+                            if (!sendEvent(emitter, EVENT_DELTA, delta)) {
+                                modelStream.dispose();
+                            }
+                        },
+                        modelStream::update);
+                job.succeed(response);
+                sendEvent(emitter, EVENT_RESULT, response);
+            } catch (BusinessException e) {
+                job.fail(e.getMessage());
+                sendEvent(emitter, EVENT_ERROR, e.getMessage());
+            } catch (Exception e) {
+                log.error("[AiJob] 판결 스트리밍 실패: conversationId={}", conversationId, e);
+                job.fail(ErrorCode.AI_SERVICE_ERROR.getMessage());
+                sendEvent(emitter, EVENT_ERROR, ErrorCode.AI_SERVICE_ERROR.getMessage());
+            }
+            emitter.complete();
+            publish(conversationId, job);
+        });
+        return emitter;
+    }
+
+    // =========================================================================
+    // Result (Polling / SSE)
+    // =========================================================================
+
+    /**
+     * 처리 결과 조회 (폴링)
+     */
+    public AiConversationResultResponse getResult(Long userId, Long conversationId) {
+        AiJob job = findJob(userId, conversationId);
+        AiConversation conversation = findConversation(userId, conversationId, job);
+        return toResponse(conversationId, conversation, job);
+    }
+
+    /**
+     * 처리 결과 구독 (SSE)
+     * <p>
+     * 접속 즉시 현재 상태(status 이벤트)를 보내고, 작업이 끝나면 result 이벤트 후 종료한다.
+     * 이미 끝난 작업이면 result 이벤트만 보내고 바로 종료한다.
+     */
+    public SseEmitter subscribe(Long userId, Long conversationId) {
+        AiJob job = findJob(userId, conversationId);
+        AiConversation conversation = findConversation(userId, conversationId, job);
+
+        SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+        if (job != null && job.register(emitter)) {
+            emitter.onCompletion(() -> job.unregister(emitter));
+            emitter.onTimeout(() -> job.unregister(emitter));
+            sendEvent(emitter, EVENT_STATUS, toResponse(conversationId, conversation, job));
+            return emitter;
+        }
+
+        // 진행 중인 작업 없음: 현재 결과를 보내고 종료
+        sendEvent(emitter, EVENT_RESULT, toResponse(conversationId, conversation, job));
+        emitter.complete();
+        return emitter;
+    }
+
+    private void publish(Long conversationId, AiJob job) {
+        List<SseEmitter> emitters = job.drainEmitters();
+        if (emitters.isEmpty()) {
+            return;
+        }
+        AiConversationResultResponse response = toResponse(conversationId, loadConversation(conversationId, job), job);
+        for (SseEmitter emitter : emitters) {
+            sendEvent(emitter, EVENT_RESULT, response);
+            emitter.complete();
+        }
+    }
+
+    /**
+     * @return 전송 성공 여부 (false면 클라이언트 연결 종료)
+     */
+    private boolean sendEvent(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료 - 결과는 DB/폴링으로 조회 가능
+            log.debug("[AiJob] SSE 전송 실패: event={}, error={}", eventName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 만료된 작업 결과 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        jobs.entrySet().removeIf(entry -> entry.getValue().isExpired(now, resultTtlMs));
+    }
+
+    // =========================================================================
+    // Internal
+    // =========================================================================
+
+    private AiJob findJob(Long userId, Long conversationId) {
+        AiJob job = jobs.get(conversationId);
+        return job != null && job.userId.equals(userId) ? job : null;
+    }
+
+    private AiConversation findConversation(Long userId, Long conversationId, AiJob job) {
+        try {
+            return aiManagerService.getConversation(userId, conversationId);
+        } catch (ResourceNotFoundException e) {
+            // 실패한 분석은 PENDING 대화가 삭제되므로 작업 정보만으로 응답
+            if (job == null) {
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    private AiConversation loadConversation(Long conversationId, AiJob job) {
+        try {
+            return aiManagerService.getConversation(job.userId, conversationId);
+        } catch (ResourceNotFoundException e) {
+            return null;
+        }
+    }
+
+    private AiConversationResultResponse toResponse(Long conversationId, AiConversation conversation, AiJob job) {
+        Object result = job != null ? job.result : null;
+        SpendingAnalyzeResponse analysis = result instanceof SpendingAnalyzeResponse analyzed
+                ? analyzed
+                : conversation != null ? aiManagerService.restoreAnalysis(conversation) : null;
+        JudgmentResponse judgment = result instanceof JudgmentResponse judged ? judged : null;
+
+        return new AiConversationResultResponse(
+                conversationId,
+                conversation != null ? conversation.getStatus() : null,
+                job != null ? job.state.name() : null,
+                analysis,
+                judgment,
+                job != null ? job.errorMessage : null
+        );
+    }
+
+    enum JobState {
+        RUNNING,
+        SUCCEEDED,
+        FAILED
+    }
+
+    /**
+     * 인메모리 작업 상태 + SSE 구독자
+     */
+    private static final class AiJob {
+
+        private final Long userId;
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile JobState state = JobState.RUNNING;
+        private volatile Object result;
+        private volatile String errorMessage;
+        private volatile long finishedAt;
+
+        private AiJob(Long userId) {
+            this.userId = userId;
+        }
+
+        private boolean isRunning() {
+            return state == JobState.RUNNING;
+        }
+
+        private synchronized void succeed(Object result) {
+            this.result = result;
+            finish(JobState.SUCCEEDED);
+        }
+
+        private synchronized void fail(String errorMessage) {
+            this.errorMessage = errorMessage;
+            finish(JobState.FAILED);
+        }
+
+        private void finish(JobState terminalState) {
+            this.finishedAt = System.currentTimeMillis();
+            this.state = terminalState;
+        }
+
+        /**
+         * 진행 중일 때만 구독 등록 (완료 후 등록되어 알림을 놓치는 경우 방지)
+         */
+        private synchronized boolean register(SseEmitter emitter) {
+            if (!isRunning()) {
+                return false;
+            }
+            emitters.add(emitter);
+            return true;
+        }
+
+        private void unregister(SseEmitter emitter) {
+            emitters.remove(emitter);
+        }
+
+        private synchronized List<SseEmitter> drainEmitters() {
+            List<SseEmitter> drained = List.copyOf(emitters);
+            emitters.clear();
+            return drained;
+        }
+
+        private boolean isExpired(long now, long ttlMs) {
+            return !isRunning() && now - finishedAt > ttlMs;
+        }
+    }
+}
@@ -2,6 +2,11 @@ package com.jipjung.project.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jipjung.project.ai.AiAnalysisCache;
+import com.jipjung.project.ai.AiAnalysisCache.AnalysisKey;
+import com.jipjung.project.ai.LlmBulkhead;
+import com.jipjung.project.ai.LlmBulkhead.LlmCallType;
+import com.jipjung.project.ai.ReceiptImagePreprocessor;
 import com.jipjung.project.ai.dto.AiAnalysisOutput;
 import com.jipjung.project.ai.dto.AiJudgmentOutput;
 import com.jipjung.project.controller.dto.request.ConfirmExtractedDataRequest;
@@ -16,13 +21,13 @@ import com.jipjung.project.domain.AiConversation;
 import com.jipjung.project.domain.ConversationStatus;
 import com.jipjung.project.domain.ExtractionStatus;
 import com.jipjung.project.domain.GrowthLevel;
+import com.jipjung.project.domain.InputMode;
 import com.jipjung.project.domain.SpendingCategory;
 import com.jipjung.project.domain.User;
 import com.jipjung.project.global.exception.BusinessException;
 import com.jipjung.project.global.exception.ErrorCode;
 import com.jipjung.project.global.exception.ResourceNotFoundException;
 import com.jipjung.project.repository.AiConversationMapper;
-import com.jipjung.project.repository.GrowthLevelMapper;
 import com.jipjung.project.repository.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -32,17 +37,26 @@ import org.springframework.ai.chat.model.ChatResponse;
 import org.springframework.ai.chat.prompt.Prompt;
 import org.springframework.ai.content.Media;
 import org.springframework.ai.vertexai.gemini.VertexAiGeminiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.MimeType;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.Disposable;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * AI 매니저 서비스
@@ -54,6 +68,11 @@ import java.util.Set;
  *   <li>processJudgment: 변명 기반 최종 판결 + 경험치 반영</li>
  *   <li>getHistory: 분석 내역 조회</li>
  * </ul>
+ * <p>
+ * Gemini 호출은 수 초가 걸리므로 DB 트랜잭션 밖에서 수행한다.
+ * (1) 대화 저장/조회 → (2) 커넥션 없이 AI 호출 → (3) 짧은 트랜잭션에서 결과 반영.
+ * 3단계의 UPDATE는 기대 상태를 WHERE 조건으로 걸어(낙관적 상태 체크)
+ * 동시에 들어온 확인/판결 요청 중 하나만 반영되도록 한다.
  */
 @Slf4j
 @Service
@@ -64,15 +83,26 @@ public class AiManagerService {
     private final ObjectMapper objectMapper;
     private final UserMapper userMapper;
     private final AiConversationMapper aiConversationMapper;
-    private final GrowthLevelMapper growthLevelMapper;
+    private final ReferenceDataCache referenceDataCache;
     private final StreakService streakService;
     private final CollectionService collectionService;
+    private final TransactionTemplate transactionTemplate;
+    private final LlmBulkhead llmBulkhead;
+    private final ReceiptImagePreprocessor receiptImagePreprocessor;
+    private final AiAnalysisCache aiAnalysisCache;
+
+    @Value("${ai.stream.timeout-ms:60000}")
+    private long streamTimeoutMs;
 
     // 경험치 상수 (프론트엔드 constants/exp.js와 동기화 필요)
     private static final int EXP_REASONABLE = 20;  // 합리적 소비: +20 EXP (20만원 상당)
     private static final int EXP_WASTE = -10;       // 낭비: -10 EXP (10만원 페널티)
     private static final String RESULT_REASONABLE = "REASONABLE";
 
+    // 분석 대사 자리표시자 (캐시된 대사를 요청마다 채움)
+    private static final String SCRIPT_NICKNAME_PLACEHOLDER = "{nickname}";
+    private static final String SCRIPT_AMOUNT_PLACEHOLDER = "{amount}";
+
     // 지원하는 이미지 MIME 타입
     private static final Set<String> SUPPORTED_IMAGE_TYPES = Set.of(
             "image/jpeg", "image/png", "image/webp"
@@ -90,23 +120,50 @@ public class AiManagerService {
      * @param imageFile 영수증 이미지 (IMAGE 모드 시 필수)
      * @return 분석 결과 (MANUAL: ANALYZED, IMAGE: EXTRACTING)
      */
-    @Transactional
     public SpendingAnalyzeResponse analyzeSpending(Long userId, SpendingAnalyzeRequest request, MultipartFile imageFile) {
+        return completeAnalysis(prepareAnalysis(userId, request, imageFile));
+    }
+
+    /**
+     * 분석 준비: 입력 검증 + PENDING 대화 저장 (AI 호출 전 단계)
+     * <p>
+     * 비동기 모드에서는 요청 스레드에서 호출된다. 요청이 끝나면 multipart 임시 파일이
+     * 삭제되므로 이미지는 여기서 전처리(축소/재인코딩)된 바이트로 만들어 둔다.
+     */
+    public PreparedAnalysis prepareAnalysis(Long userId, SpendingAnalyzeRequest request, MultipartFile imageFile) {
         User user = findUserOrThrow(userId);
         validateRequestBasics(request);
 
         return switch (request.inputMode()) {
             case MANUAL -> {
                 String normalizedCategory = validateManualInput(request);
-                yield processManualAnalysis(user, request, normalizedCategory);
+                AiConversation conversation = createConversation(user.getId(), request, normalizedCategory);
+                aiConversationMapper.insert(conversation);
+                yield new PreparedAnalysis(user, conversation, InputMode.MANUAL, null, null);
             }
             case IMAGE -> {
                 validateImageInput(imageFile);
-                yield processImageExtraction(user, imageFile);
+                ReceiptImagePreprocessor.ProcessedImage image = receiptImagePreprocessor.process(imageFile);
+                AiConversation conversation = createAiConversation(user);
+                aiConversationMapper.insert(conversation);
+                yield new PreparedAnalysis(user, conversation, InputMode.IMAGE, image.bytes(), image.contentType());
             }
         };
     }
 
+    /**
+     * 분석 완료: AI 호출 + 결과 반영 (비동기 모드에서는 AI 작업 스레드에서 호출)
+     *
+     * @return 분석 결과 (MANUAL: ANALYZED, IMAGE: EXTRACTING)
+     */
+    public SpendingAnalyzeResponse completeAnalysis(PreparedAnalysis prepared) {
+        return switch (prepared.inputMode()) {
+            case MANUAL -> processManualAnalysis(prepared.user(), prepared.conversation());
+            case IMAGE -> processImageExtraction(
+                    prepared.user(), prepared.conversation(), prepared.imageBytes(), prepared.contentType());
+        };
+    }
+
     /**
      * 추출 데이터 확인 및 분석 진행 (IMAGE 모드 전용)
      * <p>
@@ -117,7 +174,6 @@ public class AiManagerService {
      * @param request 확인된 지출 정보
      * @return 분석 결과 (ANALYZED)
      */
-    @Transactional
     public SpendingAnalyzeResponse confirmExtractedData(Long userId, ConfirmExtractedDataRequest request) {
         User user = findUserOrThrow(userId);
 
@@ -135,13 +191,12 @@ public class AiManagerService {
                 request.memo()
         );
 
-        // 3. AI 분석 호출 (수기 분석과 동일)
-        String prompt = buildAnalysisPrompt(conversation, user);
-        AiAnalysisOutput aiOutput = callAiForAnalysis(prompt, null, null);
+        // 3. AI 분석 호출 (수기 분석과 동일, 트랜잭션 밖)
+        AiAnalysisOutput aiOutput = analyzeSpendingInfo(conversation, user);
 
-        // 4. 분석 결과 저장 (ANALYZED)
+        // 4. 분석 결과 저장 (EXTRACTING → ANALYZED, 단일 UPDATE)
         conversation.updateAnalysis(serializeToJson(aiOutput));
-        aiConversationMapper.updateConfirm(conversation);
+        requireUpdated(aiConversationMapper.updateConfirm(conversation));
 
         log.info("Confirmed extraction. userId: {}, conversationId: {}", userId, conversation.getConversationId());
 
@@ -155,54 +210,60 @@ public class AiManagerService {
      * @param request 판결 요청 (변명 선택)
      * @return 판결 결과 + 성장 피드백
      */
-    @Transactional
     public JudgmentResponse processJudgment(Long userId, JudgmentRequest request) {
-        User user = findUserOrThrow(userId);
+        return completeJudgment(prepareJudgment(userId, request));
+    }
 
-        // 1. 대화 조회 및 상태 검증
+    /**
+     * 판결 준비: 대화 조회 및 상태 검증 (AI 호출 전 단계)
+     */
+    public PreparedJudgment prepareJudgment(Long userId, JudgmentRequest request) {
+        findUserOrThrow(userId);
         AiConversation conversation = findConversationOrThrow(request.conversationId(), userId);
         validateAnalyzedStatus(conversation);
+        return new PreparedJudgment(userId, conversation, request);
+    }
+
+    /**
+     * 판결 완료: AI 판결 호출 + 판결/경험치 반영 (비동기 모드에서는 AI 작업 스레드에서 호출)
+     */
+    public JudgmentResponse completeJudgment(PreparedJudgment prepared) {
+        return completeJudgment(prepared, null, null);
+    }
 
-        // 2. AI 판결 호출
+    /**
+     * 판결 완료 (스트리밍): 생성 중인 판결 코멘트/대사 텍스트를 onDelta로 전달하고,
+     * 스트림이 끝나면 전체 응답을 파싱해 판결/경험치를 반영한다.
+     *
+     * @param onDelta     부분 응답 콜백 - JSON 원문이 아닌 comment/script 값의 디코딩된 텍스트
+     *                    (null이면 스트리밍 없이 단건 호출)
+     * @param onSubscribe 모델 스트림 구독 콜백 - 받은 Disposable을 dispose하면 생성을 중단하고
+     *                    판결 슬롯을 반납한다 (클라이언트 연결 종료 시 사용)
+     */
+    public JudgmentResponse completeJudgment(PreparedJudgment prepared, Consumer<String> onDelta,
+                                             Consumer<Disposable> onSubscribe) {
+        Long userId = prepared.userId();
+        AiConversation conversation = prepared.conversation();
+        JudgmentRequest request = prepared.request();
+
+        // 1. AI 판결 호출 (트랜잭션 밖)
         String prompt = buildJudgmentPrompt(conversation, request);
-        AiJudgmentOutput aiOutput = callAiForJudgment(prompt);
+        AiJudgmentOutput aiOutput = onDelta != null
+                ? streamAiForJudgment(prompt, onDelta, onSubscribe)
+                : callAiForJudgment(prompt);
 
-        // 3. 경험치 계산
+        // 2. 경험치 계산
         boolean isReasonable = isReasonableResult(aiOutput.result());
         int expChange = calculateExpChange(isReasonable);
 
-        // 4. 경험치 반영 (음수 EXP는 0 이하로 내려가지 않도록 클램프)
-        int previousExp = safeCurrentExp(user);
-        int safeExpChange = expChange;
-        if (expChange < 0) {
-            // 현재 EXP보다 더 많이 빼지 않도록 제한
-            safeExpChange = Math.max(expChange, -previousExp);
-        }
-
-        // 5. 판결 결과 저장 (JUDGED) - 실제 반영된 EXP 기준
-        conversation.updateJudgment(
-                request.selectedExcuseId(),
-                request.customExcuse(),
-                aiOutput.result(),
-                aiOutput.score(),
-                safeExpChange,
-                serializeToJson(aiOutput)
-        );
-        aiConversationMapper.updateJudgment(conversation);
-
-        userMapper.addExp(userId, safeExpChange);
-        User updatedUser = findUserOrThrow(userId);
-        int updatedExp = safeCurrentExp(updatedUser);
-
-        // 6. 레벨 정보 조회
-        int currentLevel = safeCurrentLevel(updatedUser);
-        GrowthLevel levelInfo = growthLevelMapper.findByLevel(currentLevel);
-        boolean isLevelUp = isLevelUp(previousExp, updatedExp, levelInfo);
+        // 3. 판결 + 경험치 반영 (짧은 트랜잭션)
+        AppliedJudgment applied = transactionTemplate.execute(status ->
+                applyJudgment(userId, conversation, request, aiOutput, expChange));
 
         log.info("AI judgment completed. userId: {}, conversationId: {}, result: {}, expChange: {} (actual: {}), excuse: {}",
-                userId, conversation.getConversationId(), aiOutput.result(), expChange, safeExpChange, request.selectedExcuseId());
+                userId, conversation.getConversationId(), aiOutput.result(), expChange, applied.expChange(), request.selectedExcuseId());
 
-        // 7. 스트릭 참여 (AI 판결 활동)
+        // 4. 스트릭 참여 (AI 판결 활동)
         try {
             streakService.participate(userId, ActivityType.AI_JUDGMENT);
         } catch (Exception e) {
@@ -215,14 +276,45 @@ public class AiManagerService {
         // 응답에 실제 적용된 값 사용 (UI와 일치하도록)
         return JudgmentResponse.from(
                 aiOutput,
-                updatedUser,
-                levelInfo,
-                safeExpChange,
-                isLevelUp,
+                applied.user(),
+                applied.levelInfo(),
+                applied.expChange(),
+                applied.levelUp(),
                 GoalExpProgressResponse.from(goalProgress)
         );
     }
 
+    /**
+     * 대화 조회 (상태 폴링용)
+     */
+    @Transactional(readOnly = true)
+    public AiConversation getConversation(Long userId, Long conversationId) {
+        return findConversationOrThrow(conversationId, userId);
+    }
+
+    /**
+     * 저장된 분석 결과로 응답 복원 (비동기 작업 결과가 만료된 뒤 폴링 시 사용)
+     *
+     * @return EXTRACTING/ANALYZED/JUDGED 상태의 분석 응답, 분석 전이면 null
+     */
+    public SpendingAnalyzeResponse restoreAnalysis(AiConversation conversation) {
+        if (conversation.getAnalysisResultJson() == null) {
+            return null;
+        }
+        AiAnalysisOutput aiOutput;
+        try {
+            aiOutput = objectMapper.readValue(conversation.getAnalysisResultJson(), AiAnalysisOutput.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to restore analysis. conversationId: {}", conversation.getConversationId(), e);
+            return null;
+        }
+        if (conversation.isExtracting()) {
+            return SpendingAnalyzeResponse.fromImageExtraction(conversation, aiOutput,
+                    determineExtractionStatus(aiOutput), determineMissingFields(aiOutput));
+        }
+        return conversation.isAnalyzed() ? SpendingAnalyzeResponse.fromManual(conversation, aiOutput) : null;
+    }
+
     /**
      * AI 분석 내역 조회
      *
@@ -247,22 +339,15 @@ public class AiManagerService {
     /**
      * MANUAL 모드: 수기 입력 분석
      */
-    private SpendingAnalyzeResponse processManualAnalysis(
-            User user,
-            SpendingAnalyzeRequest request,
-            String normalizedCategory
-    ) {
-        // 1. 대화 저장 (PENDING → ANALYZED)
-        AiConversation conversation = createConversation(user.getId(), request, normalizedCategory);
-        aiConversationMapper.insert(conversation);
-
-        // 2. AI 분석 호출
-        String prompt = buildAnalysisPrompt(conversation, user);
-        AiAnalysisOutput aiOutput = callAiForAnalysis(prompt, null, null);
+    private SpendingAnalyzeResponse processManualAnalysis(User user, AiConversation conversation) {
+        // 1. 대화는 prepareAnalysis에서 저장됨 (PENDING, 단일 INSERT로 즉시 커밋)
+        // 2. AI 분석 호출 (커넥션 미점유, 동등 입력이면 캐시 사용)
+        AiAnalysisOutput aiOutput = callAiOrDiscard(conversation,
+                () -> analyzeSpendingInfo(conversation, user));
 
-        // 3. 분석 결과 저장
+        // 3. 분석 결과 저장 (PENDING → ANALYZED)
         conversation.updateAnalysis(serializeToJson(aiOutput));
-        aiConversationMapper.updateAnalysis(conversation);
+        requireUpdated(aiConversationMapper.updateAnalysis(conversation));
 
         log.info("Manual analysis completed. userId: {}, conversationId: {}, mood: {}",
                 user.getId(), conversation.getConversationId(), aiOutput.mood());
@@ -280,15 +365,17 @@ public class AiManagerService {
     /**
      * IMAGE 모드: 영수증 이미지 추출
      */
-    private SpendingAnalyzeResponse processImageExtraction(User user, MultipartFile imageFile) {
-        // 1. 대화 저장 (PENDING → EXTRACTING)
-        AiConversation conversation = createAiConversation(user);
-        aiConversationMapper.insert(conversation);
-
-        // 2. AI 이미지 추출 호출
-        byte[] imageBytes = toBytes(imageFile);
+    private SpendingAnalyzeResponse processImageExtraction(
+            User user,
+            AiConversation conversation,
+            byte[] imageBytes,
+            String contentType
+    ) {
+        // 1. 대화는 prepareAnalysis에서 저장됨 (PENDING, 단일 INSERT로 즉시 커밋)
+        // 2. AI 이미지 추출 호출 (커넥션 미점유)
         String prompt = buildImageExtractionPrompt(user);
-        AiAnalysisOutput aiOutput = callAiForAnalysis(prompt, imageBytes, getContentType(imageFile));
+        AiAnalysisOutput aiOutput = callAiOrDiscard(conversation,
+                () -> callAiForAnalysis(prompt, imageBytes, contentType));
 
         // 3. 추출 상태 결정
         ExtractionStatus extractionStatus = determineExtractionStatus(aiOutput);
@@ -296,7 +383,7 @@ public class AiManagerService {
 
         // 4. 추출 결과 저장 (EXTRACTING)
         conversation.updateToExtracting(serializeToJson(aiOutput));
-        aiConversationMapper.updateExtraction(conversation);
+        requireUpdated(aiConversationMapper.updateExtraction(conversation));
 
         log.info("Image extraction completed. userId: {}, conversationId: {}, status: {}",
                 user.getId(), conversation.getConversationId(), extractionStatus);
@@ -304,6 +391,72 @@ public class AiManagerService {
         return SpendingAnalyzeResponse.fromImageExtraction(conversation, aiOutput, extractionStatus, missingFields);
     }
 
+    /**
+     * 판결 결과 + 경험치 반영 (transactionTemplate 내부에서 호출)
+     * <p>
+     * 판결 UPDATE가 0건이면 동시 요청이 먼저 판결한 것이므로 롤백한다.
+     * EXP 클램프는 트랜잭션 안에서 다시 읽은 현재 EXP 기준으로 계산한다.
+     */
+    private AppliedJudgment applyJudgment(
+            Long userId,
+            AiConversation conversation,
+            JudgmentRequest request,
+            AiJudgmentOutput aiOutput,
+            int expChange
+    ) {
+        // 음수 EXP는 0 이하로 내려가지 않도록 클램프
+        int previousExp = safeCurrentExp(findUserOrThrow(userId));
+        int safeExpChange = expChange;
+        if (expChange < 0) {
+            // 현재 EXP보다 더 많이 빼지 않도록 제한
+            safeExpChange = Math.max(expChange, -previousExp);
+        }
+
+        // 판결 결과 저장 (JUDGED) - 실제 반영된 EXP 기준
+        conversation.updateJudgment(
+                request.selectedExcuseId(),
+                request.customExcuse(),
+                aiOutput.result(),
+                aiOutput.score(),
+                safeExpChange,
+                serializeToJson(aiOutput)
+        );
+        requireUpdated(aiConversationMapper.updateJudgment(conversation));
+
+        userMapper.addExp(userId, safeExpChange);
+        collectionService.recordExpEvent(userId, safeExpChange);
+        User updatedUser = findUserOrThrow(userId);
+        int updatedExp = safeCurrentExp(updatedUser);
+
+        // 레벨 정보 조회
+        int currentLevel = safeCurrentLevel(updatedUser);
+        GrowthLevel levelInfo = referenceDataCache.findGrowthLevel(currentLevel);
+        boolean isLevelUp = isLevelUp(previousExp, updatedExp, levelInfo);
+
+        return new AppliedJudgment(updatedUser, levelInfo, safeExpChange, isLevelUp);
+    }
+
+    /**
+     * 분석 준비 결과 (prepareAnalysis → completeAnalysis 전달용)
+     */
+    public record PreparedAnalysis(
+            User user,
+            AiConversation conversation,
+            InputMode inputMode,
+            byte[] imageBytes,
+            String contentType
+    ) {}
+
+    /**
+     * 판결 준비 결과 (prepareJudgment → completeJudgment 전달용)
+     */
+    public record PreparedJudgment(Long userId, AiConversation conversation, JudgmentRequest request) {}
+
+    /**
+     * 판결 반영 결과 (트랜잭션 → 응답 조립 전달용)
+     */
+    private record AppliedJudgment(User user, GrowthLevel levelInfo, int expChange, boolean levelUp) {}
+
     private AiConversation createAiConversation(User user) {
         return AiConversation.builder()
                 .userId(user.getId())
@@ -331,6 +484,15 @@ public class AiManagerService {
         return conversation;
     }
 
+    /**
+     * 상태 조건부 UPDATE 결과 확인 (0건이면 동시 요청이 먼저 처리함)
+     */
+    private void requireUpdated(int updatedRows) {
+        if (updatedRows == 0) {
+            throw new BusinessException(ErrorCode.AI_CONVERSATION_CONFLICT);
+        }
+    }
+
     private void validateExtractingStatus(AiConversation conversation) {
         if (!conversation.isExtracting()) {
             throw new BusinessException(ErrorCode.AI_CONVERSATION_INVALID_STATUS);
@@ -497,24 +659,141 @@ public class AiManagerService {
                 aiPrompt = new Prompt(prompt, options);
             }
 
-            ChatResponse response = chatModel.call(aiPrompt);
+            // 이미지 추출은 별도 구획 (텍스트 분석 슬롯을 잠식하지 않도록)
+            LlmCallType callType = imageBytes != null && imageBytes.length > 0
+                    ? LlmCallType.EXTRACTION
+                    : LlmCallType.ANALYSIS;
+            ChatResponse response = llmBulkhead.execute(callType, () -> chatModel.call(aiPrompt));
             String content = response.getResult().getOutput().getText();
             return parseJsonResponse(content, AiAnalysisOutput.class);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AI analysis call failed", e);
             throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
         }
     }
 
+    /**
+     * 지출 정보 분석: 정규화된 입력 지문이 같으면 캐시된 결과를 재사용
+     * <p>
+     * 캐시에는 자리표시자가 남은 대사를 저장하고, 응답 직전에 이 요청의 닉네임/금액으로 채운다.
+     */
+    private AiAnalysisOutput analyzeSpendingInfo(AiConversation conversation, User user) {
+        AnalysisKey cacheKey = new AnalysisKey(
+                conversation.getCategory(),
+                conversation.getAmount(),
+                conversation.getStoreName(),
+                conversation.getMemo()
+        );
+        AiAnalysisOutput template = aiAnalysisCache.get(cacheKey).orElseGet(() -> {
+            AiAnalysisOutput output = callAiForAnalysis(buildAnalysisPrompt(conversation), null, null);
+            aiAnalysisCache.put(cacheKey, output);
+            return output;
+        });
+        return template.withScript(renderScript(template.script(), user, conversation.getAmount()));
+    }
+
+    /**
+     * 분석 대사의 자리표시자({nickname}, {amount})를 요청 값으로 치환
+     */
+    private String renderScript(String script, User user, Long amount) {
+        if (script == null) {
+            return null;
+        }
+        String nickname = user.getNickname() != null ? user.getNickname() : "익명";
+        String amountText = amount != null ? String.format("%,d", amount) : "";
+        return script
+                .replace(SCRIPT_NICKNAME_PLACEHOLDER, nickname)
+                .replace(SCRIPT_AMOUNT_PLACEHOLDER, amountText);
+    }
+
+    /**
+     * AI 호출 실패 시 방금 저장한 PENDING 대화를 정리 (트랜잭션 롤백 대체)
+     */
+    private AiAnalysisOutput callAiOrDiscard(AiConversation conversation, Supplier<AiAnalysisOutput> aiCall) {
+        try {
+            return aiCall.get();
+        } catch (RuntimeException e) {
+            aiConversationMapper.deletePending(conversation.getConversationId());
+            throw e;
+        }
+    }
+
+    /**
+     * 판결 스트리밍 호출: 원본 조각은 누적해 완료 후 한 번에 파싱하고,
+     * 클라이언트에는 comment/script 문자열 값만 걸러서 전달
+     * <p>
+     * 판결 구획 슬롯은 스트림이 끝나거나 구독이 dispose될 때 반납된다.
+     * dispose되면 대기 중인 호출 스레드도 즉시 풀려나 AI_SERVICE_ERROR로 끝난다.
+     */
+    private AiJudgmentOutput streamAiForJudgment(String prompt, Consumer<String> onDelta,
+                                                 Consumer<Disposable> onSubscribe) {
+        StringBuilder content = new StringBuilder();
+        JudgmentStreamTextFilter textFilter = new JudgmentStreamTextFilter(onDelta);
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        VertexAiGeminiChatOptions options = VertexAiGeminiChatOptions.builder()
+                .model("gemini-2.5-flash")
+                .temperature(0.7)
+                .build();
+
+        Disposable subscription = llmBulkhead.stream(LlmCallType.JUDGMENT,
+                        () -> chatModel.stream(new Prompt(prompt, options)))
+                .doOnNext(response -> {
+                    String delta = extractText(response);
+                    if (delta != null && !delta.isEmpty()) {
+                        content.append(delta);
+                        textFilter.accept(delta);
+                    }
+                })
+                .doOnCancel(() -> done.cancel(false))
+                .subscribe(response -> { }, done::completeExceptionally, () -> done.complete(null));
+        if (onSubscribe != null) {
+            onSubscribe.accept(subscription);
+        }
+
+        try {
+            done.get(streamTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (CancellationException e) {
+            log.info("AI judgment stream cancelled by client");
+            throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
+        } catch (TimeoutException e) {
+            subscription.dispose();
+            log.error("AI judgment stream timed out after {}ms", streamTimeoutMs);
+            throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
+        } catch (InterruptedException e) {
+            subscription.dispose();
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            log.error("AI judgment stream failed", e.getCause());
+            throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
+        }
+        return parseJsonResponse(content.toString(), AiJudgmentOutput.class);
+    }
+
+    private String extractText(ChatResponse response) {
+        if (response == null || response.getResult() == null || response.getResult().getOutput() == null) {
+            return null;
+        }
+        return response.getResult().getOutput().getText();
+    }
+
     private AiJudgmentOutput callAiForJudgment(String prompt) {
         try {
             VertexAiGeminiChatOptions options = VertexAiGeminiChatOptions.builder()
                     .model("gemini-2.5-flash")
                     .temperature(0.7)
                     .build();
-            ChatResponse response = chatModel.call(new Prompt(prompt, options));
+            Prompt judgmentPrompt = new Prompt(prompt, options);
+            ChatResponse response = llmBulkhead.execute(LlmCallType.JUDGMENT, () -> chatModel.call(judgmentPrompt));
             String content = response.getResult().getOutput().getText();
             return parseJsonResponse(content, AiJudgmentOutput.class);
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
             log.error("AI judgment call failed", e);
             throw new BusinessException(ErrorCode.AI_SERVICE_ERROR);
@@ -550,25 +829,6 @@ public class AiManagerService {
         return content.trim();
     }
 
-    private byte[] toBytes(MultipartFile imageFile) {
-        if (imageFile == null || imageFile.isEmpty()) {
-            return null;
-        }
-        try {
-            return imageFile.getBytes();
-        } catch (IOException e) {
-            log.warn("Failed to read image bytes", e);
-            throw new IllegalArgumentException("이미지 파일을 읽는 중 오류가 발생했습니다");
-        }
-    }
-
-    private String getContentType(MultipartFile imageFile) {
-        if (imageFile == null || imageFile.isEmpty()) {
-            return null;
-        }
-        return imageFile.getContentType();
-    }
-
     private MimeType resolveMimeType(String contentType) {
         try {
             return contentType != null ? MimeTypeUtils.parseMimeType(contentType) : MimeTypeUtils.IMAGE_JPEG;
@@ -590,10 +850,13 @@ public class AiManagerService {
     // Prompt Building
     // =========================================================================
 
-    private String buildAnalysisPrompt(AiConversation conversation, User user) {
-        String nickname = user.getNickname() != null ? user.getNickname() : "익명";
+    /**
+     * 분석 프롬프트 (닉네임·금액은 대사에 자리표시자로 받아 캐시된 응답을 다른 요청에도 재사용)
+     */
+    private String buildAnalysisPrompt(AiConversation conversation) {
         String categoryLabel = SpendingCategory.fromString(conversation.getCategory()).getLabel();
-        String amountText = conversation.getAmount() != null ? conversation.getAmount().toString() : "미입력";
+        Long amount = conversation.getAmount();
+        String amountText = amount != null ? amount.toString() : "미입력";
 
         return """
             # [시스템 지침: 캐릭터 페르소나 - 레제(Reze)]
@@ -633,9 +896,6 @@ public class AiManagerService {
             - 날짜: %s
             - 메모: %s
             
-            ## 사용자 정보
-            - 닉네임: %s
-            
             ## 요청
             다음 JSON 형식으로만 응답하세요:
             {
@@ -654,13 +914,15 @@ public class AiManagerService {
             2. suggestedExcuses는 정확히 3개
             3. 마지막 변명은 항상 "인정합니다" (GIVE_UP)
             4. 금액이 클수록 mood는 STRICT
+            5. script에서 사용자를 부를 때는 %s, 금액을 말할 때는 %s원으로만 쓰고 숫자를 직접 쓰지 마세요
             """.formatted(
                 amountText,
                 conversation.getStoreName(),
                 categoryLabel,
                 conversation.getPaymentDate(),
                 conversation.getMemo() != null ? conversation.getMemo() : "",
-                nickname
+                SCRIPT_NICKNAME_PLACEHOLDER,
+                SCRIPT_AMOUNT_PLACEHOLDER
             );
     }
 
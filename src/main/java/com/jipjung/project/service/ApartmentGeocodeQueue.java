@@ -0,0 +1,166 @@
+package com.jipjung.project.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Async geocoding work queue
+ * <p>
+ * MOLIT sync enqueues apt_seqs after its transaction commits; a bounded worker pool
+ * drains the queue, geocodes outside any transaction (KakaoGeoClient rate limiter applies),
+ * and commits coordinates in small batches. Items dropped on overflow are picked up
+ * later by {@link ApartmentGeocodeScheduler} since they still lack coordinates.
+ */
+@Component
+@Slf4j
+public class ApartmentGeocodeQueue {
+
+    private static final long POLL_TIMEOUT_MS = 1000;
+
+    private final ApartmentGeocodingService geocodingService;
+    private final Executor geocodeExecutor;
+    private final int workers;
+    private final int batchSize;
+
+    private final BlockingQueue<String> queue;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = false;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter updatedCounter;
+    private final Counter unresolvedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public ApartmentGeocodeQueue(
+            ApartmentGeocodingService geocodingService,
+            @Qualifier("geocodeExecutor") Executor geocodeExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${kakao.api.geocode-workers:2}") int workers,
+            @Value("${kakao.api.geocode-queue-capacity:10000}") int capacity,
+            @Value("${kakao.api.geocode-batch-size:20}") int batchSize
+    ) {
+        this.geocodingService = geocodingService;
+        this.geocodeExecutor = geocodeExecutor;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, capacity));
+
+        Gauge.builder("geocode.queue.depth", queue, BlockingQueue::size)
+                .description("Apartments waiting for geocoding")
+                .register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("geocode.queue.enqueued");
+        this.droppedCounter = meterRegistry.counter("geocode.queue.dropped");
+        this.updatedCounter = meterRegistry.counter("geocode.queue.processed", "result", "updated");
+        this.unresolvedCounter = meterRegistry.counter("geocode.queue.processed", "result", "unresolved");
+        this.failedCounter = meterRegistry.counter("geocode.queue.processed", "result", "failed");
+        this.batchTimer = meterRegistry.timer("geocode.queue.batch");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWorkers() {
+        running = true;
+        for (int i = 0; i < workers; i++) {
+            geocodeExecutor.execute(this::runWorker);
+        }
+        log.info("[Geo] Queue workers started: workers={}, batchSize={}", workers, batchSize);
+    }
+
+    @PreDestroy
+    public void stopWorkers() {
+        running = false;
+    }
+
+    /**
+     * Enqueue apartments for geocoding immediately.
+     * Callers inside a transaction must call this from afterCommit so workers see the rows
+     * (see ApartmentSyncService#afterApartmentsSaved).
+     */
+    public void enqueueAll(Collection<String> aptSeqs) {
+        if (aptSeqs == null || aptSeqs.isEmpty()) {
+            return;
+        }
+        offerAll(List.copyOf(aptSeqs));
+    }
+
+    public int depth() {
+        return queue.size();
+    }
+
+    private void offerAll(List<String> aptSeqs) {
+        for (String aptSeq : aptSeqs) {
+            if (!pending.add(aptSeq)) {
+                continue;
+            }
+            if (queue.offer(aptSeq)) {
+                enqueuedCounter.increment();
+            } else {
+                pending.remove(aptSeq);
+                droppedCounter.increment();
+            }
+        }
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                String first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<String> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                batchTimer.record(() -> processBatch(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.warn("[Geo] Queue worker error: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void processBatch(List<String> batch) {
+        List<ApartmentGeocodingService.GeocodedLocation> resolved = new ArrayList<>(batch.size());
+        try {
+            for (String aptSeq : batch) {
+                try {
+                    geocodingService.resolveLocation(aptSeq)
+                            .ifPresentOrElse(resolved::add, unresolvedCounter::increment);
+                } catch (Exception e) {
+                    failedCounter.increment();
+                    log.warn("[Geo] Queue geocoding failed: aptSeq={}, error={}", aptSeq, e.getMessage());
+                }
+            }
+            if (!resolved.isEmpty()) {
+                int updated = geocodingService.saveLocations(resolved);
+                updatedCounter.increment(updated);
+                log.debug("[Geo] Queue batch committed: batch={}, updated={}, depth={}",
+                        batch.size(), updated, queue.size());
+            }
+        } finally {
+            batch.forEach(pending::remove);
+        }
+    }
+}
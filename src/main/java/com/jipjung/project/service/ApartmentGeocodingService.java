@@ -3,11 +3,15 @@ package com.jipjung.project.service;
 import com.jipjung.project.domain.Apartment;
 import com.jipjung.project.external.kakao.KakaoGeoClient;
 import com.jipjung.project.repository.ApartmentMapper;
-import com.jipjung.project.repository.DongcodeMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
@@ -25,7 +29,11 @@ public class ApartmentGeocodingService {
 
     private final KakaoGeoClient kakaoGeoClient;
     private final ApartmentMapper apartmentMapper;
-    private final DongcodeMapper dongcodeMapper;
+    private final ReferenceDataCache referenceDataCache;
+    private final Clock clock;
+
+    @Value("${kakao.api.geocode-negative-ttl-hours:168}")
+    private long negativeTtlHours;
 
     public boolean updateCoordinatesIfMissing(
             String aptSeq,
@@ -47,26 +55,70 @@ public class ApartmentGeocodingService {
             return false;
         }
 
+        return geocode(aptSeq, sggCd, umdNm, jibun, aptNm)
+                .map(this::updateCoordinates)
+                .orElse(false);
+    }
+
+    /**
+     * Resolve coordinates without writing (used by the async geocoding queue)
+     *
+     * @return resolved location, or empty when already located / not resolvable
+     */
+    public Optional<GeocodedLocation> resolveLocation(String aptSeq) {
+        if (isBlank(aptSeq)) {
+            return Optional.empty();
+        }
+        Optional<Apartment> apartment = findApartment(aptSeq);
+        if (apartment.isEmpty() || hasCoordinates(apartment.get())) {
+            return Optional.empty();
+        }
+        Apartment value = apartment.get();
+        return geocode(aptSeq, value.getSggCd(), value.getUmdNm(), value.getJibun(), value.getAptNm());
+    }
+
+    /**
+     * Persist resolved coordinates in one short transaction
+     *
+     * @return number of apartments updated
+     */
+    @Transactional
+    public int saveLocations(List<GeocodedLocation> locations) {
+        int updated = 0;
+        for (GeocodedLocation location : locations) {
+            if (updateCoordinates(location)) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    private Optional<GeocodedLocation> geocode(String aptSeq, String sggCd, String umdNm, String jibun, String aptNm) {
         String regionPrefix = resolveRegionPrefix(sggCd, umdNm);
         if (isBlank(regionPrefix)) {
             log.warn("[Geo] Failed to resolve region prefix: sggCd={}, umdNm={}", sggCd, umdNm);
-            return false;
+            deferRetry(aptSeq);
+            return Optional.empty();
         }
 
         List<String> addressCandidates = buildAddressCandidates(regionPrefix, umdNm, jibun, aptNm);
         Optional<KakaoGeoClient.KakaoCoordinates> coords = geocodeFirst(addressCandidates, aptSeq);
         if (coords.isEmpty()) {
-            return false;
+            // every candidate is a cached miss: park the apartment so backfill batches move on
+            if (addressCandidates.stream().allMatch(kakaoGeoClient::isNegativelyCached)) {
+                deferRetry(aptSeq);
+            }
+            return Optional.empty();
         }
 
         String dongCode = resolveDongCode(sggCd, umdNm);
         KakaoGeoClient.KakaoCoordinates value = coords.get();
-        return updateCoordinates(aptSeq, dongCode, value);
+        return Optional.of(new GeocodedLocation(aptSeq, dongCode, value.latitude(), value.longitude()));
     }
 
     public int backfillMissingCoordinates(int limit) {
         int batchLimit = Math.max(MIN_BATCH_LIMIT, limit);
-        List<Apartment> targets = apartmentMapper.findMissingCoordinates(batchLimit);
+        List<Apartment> targets = apartmentMapper.findMissingCoordinates(batchLimit, LocalDateTime.now(clock));
         int updated = 0;
         for (Apartment apartment : targets) {
             boolean changed = updateCoordinatesIfMissing(
@@ -86,6 +138,15 @@ public class ApartmentGeocodingService {
         return updated;
     }
 
+    /**
+     * Skip this apartment in backfill until the negative cache TTL expires
+     */
+    private void deferRetry(String aptSeq) {
+        LocalDateTime retryAt = LocalDateTime.now(clock).plusHours(negativeTtlHours);
+        apartmentMapper.updateGeocodeRetryAt(aptSeq, retryAt);
+        log.debug("[Geo] Geocoding deferred: aptSeq={}, retryAt={}", aptSeq, retryAt);
+    }
+
     private Optional<Apartment> findApartment(String aptSeq) {
         Optional<Apartment> apartment = apartmentMapper.findByAptSeq(aptSeq);
         if (apartment.isEmpty()) {
@@ -102,18 +163,18 @@ public class ApartmentGeocodingService {
         if (isBlank(sggCd)) {
             return null;
         }
-        String resolved = dongcodeMapper.findRegionPrefixBySggCdAndUmdNm(sggCd, umdNm);
+        String resolved = referenceDataCache.findRegionPrefix(sggCd, umdNm);
         if (!isBlank(resolved)) {
             return resolved;
         }
-        return dongcodeMapper.findRegionPrefixBySggCd(sggCd);
+        return referenceDataCache.findRegionPrefix(sggCd);
     }
 
     private String resolveDongCode(String sggCd, String umdNm) {
         if (isBlank(sggCd) || isBlank(umdNm)) {
             return null;
         }
-        return dongcodeMapper.findDongCodeBySggCdAndUmdNm(sggCd, umdNm);
+        return referenceDataCache.findDongCode(sggCd, umdNm);
     }
 
     private List<String> buildAddressCandidates(String regionPrefix, String umdNm, String jibun, String aptNm) {
@@ -144,15 +205,15 @@ public class ApartmentGeocodingService {
         return Optional.empty();
     }
 
-    private boolean updateCoordinates(String aptSeq, String dongCode, KakaoGeoClient.KakaoCoordinates coords) {
+    private boolean updateCoordinates(GeocodedLocation location) {
         int updated = apartmentMapper.updateLocationIfMissing(
-                aptSeq,
-                dongCode,
-                coords.latitude(),
-                coords.longitude()
+                location.aptSeq(),
+                location.dongCode(),
+                location.latitude(),
+                location.longitude()
         );
         if (updated == 0) {
-            log.debug("[Geo] Coordinates already set or apartment missing: aptSeq={}", aptSeq);
+            log.debug("[Geo] Coordinates already set or apartment missing: aptSeq={}", location.aptSeq());
             return false;
         }
         return true;
@@ -175,4 +236,6 @@ public class ApartmentGeocodingService {
     private boolean isBlank(String value) {
         return value == null || value.isBlank();
     }
+
+    public record GeocodedLocation(String aptSeq, String dongCode, BigDecimal latitude, BigDecimal longitude) {}
 }
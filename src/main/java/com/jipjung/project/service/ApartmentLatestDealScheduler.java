@@ -0,0 +1,29 @@
+package com.jipjung.project.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Latest deal rebuild scheduler
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "molit.api.latest-deal-rebuild-enabled", havingValue = "true")
+public class ApartmentLatestDealScheduler {
+
+    private final ApartmentLatestDealService latestDealService;
+
+    @Scheduled(cron = "${molit.api.latest-deal-rebuild-cron:0 0 4 * * *}")
+    public void rebuildLatestDeals() {
+        try {
+            int rebuilt = latestDealService.rebuildAll();
+            log.info("[LatestDeal] Scheduler rebuild completed: rebuilt={}", rebuilt);
+        } catch (Exception e) {
+            log.warn("[LatestDeal] Scheduler rebuild failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.repository.ApartmentLatestDealMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아파트별 최신 실거래 테이블 관리 서비스
+ * - 동기화 중에는 ApartmentSyncService가 건별로 갱신
+ * - 수동 적재/누락 보정 시 apartment_deal 기준 전체 재구축
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApartmentLatestDealService {
+
+    private final ApartmentLatestDealMapper apartmentLatestDealMapper;
+
+    /**
+     * 최신 거래 테이블 전체 재구축
+     *
+     * @return 적재된 아파트 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        int deleted = apartmentLatestDealMapper.deleteAll();
+        int inserted = apartmentLatestDealMapper.insertAllFromDeals();
+        apartmentLatestDealMapper.syncAllSortKeys();
+        log.info("[LatestDeal] 재구축 완료: deleted={}, inserted={}", deleted, inserted);
+        return inserted;
+    }
+}
@@ -0,0 +1,317 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.Apartment;
+import com.jipjung.project.repository.ApartmentMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 아파트 검색어 인메모리 인덱스 (bigram 역색인)
+ * <p>
+ * apt_nm / umd_nm / road_nm의 LIKE '%keyword%' 전체 스캔을 대신해
+ * 키워드를 apt_seq 후보로 먼저 해석한다.
+ * <ul>
+ *   <li>일반 검색: 공백 제거 + 소문자 정규화 텍스트의 bigram 교집합 후 부분 문자열 검증</li>
+ *   <li>초성 검색: 키워드가 모두 초성(ㄱ~ㅎ)이면 초성 변환 텍스트에서 동일하게 검색</li>
+ *   <li>시작 시 전체 적재, 이후 ApartmentSyncService upsert 시 건별 갱신</li>
+ * </ul>
+ * 인덱스가 준비되지 않았거나 후보가 너무 많으면 빈 Optional을 반환하고 SQL LIKE로 폴백한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApartmentSearchIndex {
+
+    private static final int GRAM_SIZE = 2;
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSUNG_JONGSUNG_COUNT = 21 * 28;
+
+    private final ApartmentMapper apartmentMapper;
+
+    @Value("${apartment.search-index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${apartment.search-index.max-candidates:1000}")
+    private int maxCandidates;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IndexedApartment> documents = new HashMap<>();
+    private final Map<String, Set<String>> textPostings = new HashMap<>();
+    private final Map<String, Set<String>> chosungPostings = new HashMap<>();
+    private volatile boolean ready = false;
+
+    /**
+     * 애플리케이션 시작 시 전체 아파트 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("[SearchIndex] 비활성화됨");
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * 인덱스 전체 재구축
+     */
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        ready = false;
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            textPostings.clear();
+            chosungPostings.clear();
+            apartmentMapper.findAllForSearchIndex(context -> {
+                Apartment apartment = context.getResultObject();
+                addDocument(IndexedApartment.of(
+                        apartment.getAptSeq(),
+                        apartment.getAptNm(),
+                        apartment.getUmdNm(),
+                        apartment.getRoadNm()
+                ));
+            });
+            ready = true;
+            log.info("[SearchIndex] 적재 완료: apartments={}, grams={}, elapsedMs={}",
+                    documents.size(), textPostings.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("[SearchIndex] 적재 실패 - SQL 검색으로 폴백: {}", e.getMessage());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아파트 1건 색인 갱신 (동기화 upsert 시 호출)
+     * roadNm이 null이면 기존 값을 유지한다 (upsert가 도로명을 갱신하지 않으므로)
+     */
+    public void upsert(String aptSeq, String aptNm, String umdNm, String roadNm) {
+        if (!enabled || aptSeq == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            IndexedApartment previous = documents.get(aptSeq);
+            String resolvedRoadNm = roadNm != null || previous == null ? roadNm : previous.roadNm();
+            IndexedApartment updated = IndexedApartment.of(aptSeq, aptNm, umdNm, resolvedRoadNm);
+            if (updated.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                removeDocument(previous);
+            }
+            addDocument(updated);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 apt_seq 후보로 해석
+     *
+     * @param keyword 검색어
+     * @return 후보 목록 (빈 리스트면 일치 없음), 인덱스로 처리할 수 없으면 Optional.empty()
+     */
+    public Optional<List<String>> findCandidates(String keyword) {
+        if (!enabled || !ready || keyword == null) {
+            return Optional.empty();
+        }
+        String normalized = normalize(keyword);
+        if (normalized.length() < GRAM_SIZE) {
+            return Optional.empty();
+        }
+
+        boolean chosungQuery = isChosungOnly(normalized);
+        lock.readLock().lock();
+        try {
+            Map<String, Set<String>> postings = chosungQuery ? chosungPostings : textPostings;
+            List<Set<String>> sets = new ArrayList<>();
+            for (String gram : grams(normalized)) {
+                Set<String> posting = postings.get(gram);
+                if (posting == null) {
+                    return Optional.of(Collections.emptyList());
+                }
+                sets.add(posting);
+            }
+            sets.sort(Comparator.comparingInt(Set::size));
+
+            List<String> candidates = new ArrayList<>();
+            for (String aptSeq : sets.get(0)) {
+                if (!containsAll(sets, aptSeq)) {
+                    continue;
+                }
+                IndexedApartment document = documents.get(aptSeq);
+                if (document == null || !document.matches(normalized, chosungQuery)) {
+                    continue;
+                }
+                candidates.add(aptSeq);
+                if (candidates.size() > maxCandidates) {
+                    // 후보가 너무 많으면 IN 절보다 LIKE가 낫다
+                    return Optional.empty();
+                }
+            }
+            return Optional.of(candidates);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // =========================================================================
+    // Internal
+    // =========================================================================
+
+    private void addDocument(IndexedApartment document) {
+        documents.put(document.aptSeq(), document);
+        for (String gram : document.textGrams()) {
+            textPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.aptSeq());
+        }
+        for (String gram : document.chosungGrams()) {
+            chosungPostings.computeIfAbsent(gram, key -> new HashSet<>()).add(document.aptSeq());
+        }
+    }
+
+    private void removeDocument(IndexedApartment document) {
+        documents.remove(document.aptSeq());
+        removePostings(textPostings, document.textGrams(), document.aptSeq());
+        removePostings(chosungPostings, document.chosungGrams(), document.aptSeq());
+    }
+
+    private static void removePostings(Map<String, Set<String>> postings, Set<String> grams, String aptSeq) {
+        for (String gram : grams) {
+            Set<String> posting = postings.get(gram);
+            if (posting != null) {
+                posting.remove(aptSeq);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static boolean containsAll(List<Set<String>> sets, String aptSeq) {
+        for (int i = 1; i < sets.size(); i++) {
+            if (!sets.get(i).contains(aptSeq)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static String toChosung(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSUNG[(c - HANGUL_BASE) / JUNGSUNG_JONGSUNG_COUNT]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static boolean isChosungOnly(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    /**
+     * 색인된 아파트 (정규화 텍스트 + 초성 텍스트)
+     */
+    private record IndexedApartment(
+            String aptSeq,
+            String aptNm,
+            String umdNm,
+            String roadNm,
+            List<String> texts,
+            List<String> chosungTexts
+    ) {
+        private static IndexedApartment of(String aptSeq, String aptNm, String umdNm, String roadNm) {
+            List<String> texts = new ArrayList<>(3);
+            for (String field : new String[]{aptNm, umdNm, roadNm}) {
+                String normalized = normalize(field);
+                if (!normalized.isEmpty()) {
+                    texts.add(normalized);
+                }
+            }
+            List<String> chosungTexts = texts.stream().map(ApartmentSearchIndex::toChosung).toList();
+            return new IndexedApartment(aptSeq, aptNm, umdNm, roadNm, List.copyOf(texts), chosungTexts);
+        }
+
+        private Set<String> textGrams() {
+            Set<String> result = new HashSet<>();
+            texts.forEach(text -> result.addAll(grams(text)));
+            return result;
+        }
+
+        private Set<String> chosungGrams() {
+            Set<String> result = new HashSet<>();
+            chosungTexts.forEach(text -> result.addAll(grams(text)));
+            return result;
+        }
+
+        private boolean matches(String normalizedKeyword, boolean chosungQuery) {
+            List<String> targets = chosungQuery ? chosungTexts : texts;
+            for (String target : targets) {
+                if (target.contains(normalizedKeyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.jipjung.project.service;
 import com.jipjung.project.global.exception.DuplicateResourceException;
 import com.jipjung.project.global.exception.ErrorCode;
 import com.jipjung.project.global.exception.ResourceNotFoundException;
+import com.jipjung.project.controller.dto.request.ApartmentSearchCursor;
 import com.jipjung.project.controller.dto.request.ApartmentSearchRequest;
 import com.jipjung.project.controller.dto.request.FavoriteRequest;
 import com.jipjung.project.controller.dto.response.ApartmentDetailResponse;
@@ -13,7 +14,6 @@ import com.jipjung.project.controller.dto.response.RegionCoordinatesResponse;
 import com.jipjung.project.domain.Apartment;
 import com.jipjung.project.domain.FavoriteApartment;
 import com.jipjung.project.repository.ApartmentMapper;
-import com.jipjung.project.repository.DongcodeMapper;
 import com.jipjung.project.repository.FavoriteApartmentMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,23 +31,40 @@ public class ApartmentService {
 
     private final ApartmentMapper apartmentMapper;
     private final FavoriteApartmentMapper favoriteApartmentMapper;
-    private final DongcodeMapper dongcodeMapper;
+    private final ReferenceDataCache referenceDataCache;
     private final ApartmentWarmupService apartmentWarmupService;
+    private final ApartmentSearchIndex apartmentSearchIndex;
 
     /**
      * 아파트 목록 조회 (검색 및 페이징)
      * 각 아파트의 최신 실거래 1건 포함
      * 
+     * 페이징: cursor가 있으면 keyset seek, 없으면 page 기반 OFFSET
+     * 키워드: 검색 인덱스로 apt_seq 후보를 먼저 해석 (불가 시 SQL LIKE)
      * Fallback: lawdCd 있고 DB 결과 없을 시 비동기 워밍 트리거
      */
     @Transactional(readOnly = true)
     public ApartmentListPageResponse searchApartments(ApartmentSearchRequest request) {
         ApartmentSearchRequest resolvedRequest = resolveSearchRequest(request);
-        List<Apartment> apartments = apartmentMapper.findAllWithLatestDeal(resolvedRequest);
-        int totalCount = apartmentMapper.count(resolvedRequest);
+        ApartmentSearchCursor cursor = resolvedRequest.isCursorMode()
+                ? ApartmentSearchCursor.decode(resolvedRequest.cursor())
+                : null;
+
+        List<String> keywordAptSeqs = resolveKeywordCandidates(resolvedRequest.keyword());
+
+        // 다음 페이지 존재 여부 판별을 위해 1건 더 조회
+        int size = resolvedRequest.size();
+        List<Apartment> fetched = apartmentMapper.findAllWithLatestDeal(resolvedRequest, cursor, size + 1, keywordAptSeqs);
+        boolean hasNext = fetched.size() > size;
+        List<Apartment> apartments = hasNext ? fetched.subList(0, size) : fetched;
 
-        // Fallback: lawdCd 있고 결과 없을 때 API 호출
-        if (apartments.isEmpty() && resolvedRequest.lawdCd() != null && !resolvedRequest.lawdCd().isBlank()) {
+        Integer totalCount = resolvedRequest.shouldCountTotal()
+                ? apartmentMapper.count(resolvedRequest, keywordAptSeqs)
+                : null;
+
+        // Fallback: lawdCd 있고 결과 없을 때 API 호출 (첫 페이지만)
+        if (apartments.isEmpty() && cursor == null
+                && resolvedRequest.lawdCd() != null && !resolvedRequest.lawdCd().isBlank()) {
             String dealYmd = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMM"));
             apartmentWarmupService.warmupIfMissing(resolvedRequest.lawdCd(), dealYmd);
         }
@@ -56,7 +73,22 @@ public class ApartmentService {
                 .map(apt -> ApartmentListResponse.from(apt, apt.getLatestDeal()))
                 .toList();
 
-        return ApartmentListPageResponse.of(responses, totalCount, request.page(), request.size());
+        String nextCursor = hasNext
+                ? ApartmentSearchCursor.from(apartments.get(apartments.size() - 1)).encode()
+                : null;
+        Integer page = cursor == null ? resolvedRequest.page() : null;
+
+        return ApartmentListPageResponse.of(responses, totalCount, page, size, nextCursor);
+    }
+
+    /**
+     * 키워드 → apt_seq 후보 (인덱스로 처리할 수 없으면 null)
+     */
+    private List<String> resolveKeywordCandidates(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return null;
+        }
+        return apartmentSearchIndex.findCandidates(keyword).orElse(null);
     }
 
     private ApartmentSearchRequest resolveSearchRequest(ApartmentSearchRequest request) {
@@ -81,15 +113,15 @@ public class ApartmentService {
         String sido = normalizeToNull(request.sido());
         String normalizedSido = normalizeSidoName(sido);
         String resolved = normalizedSido != null
-                ? dongcodeMapper.findLawdCdByRegion(normalizedSido, sigungu)
+                ? referenceDataCache.findLawdCdByRegion(normalizedSido, sigungu)
                 : null;
 
         if (resolved == null && sido != null && !sido.equals(normalizedSido)) {
-            resolved = dongcodeMapper.findLawdCdByRegion(sido, sigungu);
+            resolved = referenceDataCache.findLawdCdByRegion(sido, sigungu);
         }
 
         if (resolved == null && sido == null) {
-            resolved = dongcodeMapper.findLawdCdBySigungu(sigungu);
+            resolved = referenceDataCache.findLawdCdBySigungu(sigungu);
         }
 
         if (resolved == null) {
@@ -5,6 +5,7 @@ import com.jipjung.project.domain.ApartmentDeal;
 import com.jipjung.project.external.molit.MolitApiClient;
 import com.jipjung.project.external.molit.MolitDealResponse;
 import com.jipjung.project.repository.ApartmentDealMapper;
+import com.jipjung.project.repository.ApartmentLatestDealMapper;
 import com.jipjung.project.repository.ApartmentMapper;
 import com.jipjung.project.repository.MolitSyncHistoryMapper;
 import com.jipjung.project.service.dto.SyncResult;
@@ -14,13 +15,17 @@ import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 
 /**
  * 아파트 데이터 동기화 서비스
@@ -34,8 +39,10 @@ public class ApartmentSyncService {
     private final MolitApiClient molitApiClient;
     private final ApartmentMapper apartmentMapper;
     private final ApartmentDealMapper apartmentDealMapper;
+    private final ApartmentLatestDealMapper apartmentLatestDealMapper;
     private final MolitSyncHistoryMapper syncHistoryMapper;
-    private final ApartmentGeocodingService apartmentGeocodingService;
+    private final ApartmentGeocodeQueue apartmentGeocodeQueue;
+    private final ApartmentSearchIndex apartmentSearchIndex;
 
     @Value("${molit.api.sync-cooldown-hours:24}")
     private int syncCooldownHours;
@@ -46,6 +53,9 @@ public class ApartmentSyncService {
     @Value("${molit.api.admin-enabled:true}")
     private boolean adminEnabled;
 
+    @Value("${molit.api.sync-chunk-size:500}")
+    private int syncChunkSize;
+
     private static final String DEFAULT_LAWD_CD = "11680";  // 강남구
 
     /**
@@ -111,6 +121,7 @@ public class ApartmentSyncService {
 
     /**
      * 핵심 동기화 로직
+     * 정규화 후 청크 단위로 다건 upsert / INSERT IGNORE 수행
      */
     private SyncResult syncRegionMonth(String lawdCd, String dealYmd) {
         try {
@@ -120,42 +131,53 @@ public class ApartmentSyncService {
             if (deals.isEmpty()) {
                 log.info("[Sync] API 응답 없음 (lawdCd={}, dealYmd={})", lawdCd, dealYmd);
                 syncHistoryMapper.insertOrUpdate(lawdCd, dealYmd, 0);
-                return SyncResult.success(lawdCd, dealYmd, 0, 0);
+                return SyncResult.success(lawdCd, dealYmd, 0, 0, 0);
             }
 
-            // 2. 저장
-            int syncedCount = 0;
+            // 2. 정규화 (해제 거래/필수 값 누락 스킵)
+            List<PreparedDeal> prepared = new ArrayList<>(deals.size());
             int skippedCount = 0;
-            Set<String> geocodeChecked = new HashSet<>();
-
             for (MolitDealResponse deal : deals) {
-                // 해제 거래 스킵
                 if (deal.isCanceledDeal()) {
                     log.debug("[Sync] 해제 거래 스킵: aptNm={}", deal.getAptNm());
                     skippedCount++;
                     continue;
                 }
-
-                try {
-                    boolean saved = saveDeal(deal, lawdCd, geocodeChecked);
-                    if (saved) {
-                        syncedCount++;
-                    } else {
-                        skippedCount++;
-                    }
-                } catch (Exception e) {
-                    log.warn("[Sync] 개별 저장 실패: aptNm={}, error={}", deal.getAptNm(), e.getMessage());
+                NormalizedDeal normalized = normalizeDeal(deal, lawdCd);
+                if (!normalized.isValid()) {
+                    log.warn("[Sync] 필수 값 누락 - 스킵: lawdCd={}, aptNm={}, dealAmount={}",
+                            lawdCd, normalized.aptNm(), normalized.dealAmount());
                     skippedCount++;
+                    continue;
                 }
+                prepared.add(prepareDeal(normalized));
             }
 
-            // 3. 이력 기록
+            // 3. 청크 단위 저장
+            int syncedCount = 0;
+            int duplicateCount = 0;
+            int chunkSize = Math.max(1, syncChunkSize);
+            int chunkCount = (prepared.size() + chunkSize - 1) / chunkSize;
+            for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+                int from = chunkIndex * chunkSize;
+                List<PreparedDeal> chunk = prepared.subList(from, Math.min(from + chunkSize, prepared.size()));
+                ChunkResult chunkResult = saveChunk(chunk);
+
+                syncedCount += chunkResult.inserted();
+                duplicateCount += chunkResult.duplicates();
+                skippedCount += chunkResult.failed();
+                log.debug("[Sync] 청크 저장: lawdCd={}, dealYmd={}, chunk={}/{}, inserted={}, duplicate={}, failed={}",
+                        lawdCd, dealYmd, chunkIndex + 1, chunkCount,
+                        chunkResult.inserted(), chunkResult.duplicates(), chunkResult.failed());
+            }
+
+            // 4. 이력 기록
             syncHistoryMapper.insertOrUpdate(lawdCd, dealYmd, syncedCount);
             
-            log.info("[Sync] 완료: lawdCd={}, dealYmd={}, synced={}, skipped={}",
-                    lawdCd, dealYmd, syncedCount, skippedCount);
+            log.info("[Sync] 완료: lawdCd={}, dealYmd={}, synced={}, duplicate={}, skipped={}",
+                    lawdCd, dealYmd, syncedCount, duplicateCount, skippedCount);
             
-            return SyncResult.success(lawdCd, dealYmd, syncedCount, skippedCount);
+            return SyncResult.success(lawdCd, dealYmd, syncedCount, skippedCount + duplicateCount, duplicateCount);
 
         } catch (Exception e) {
             log.error("[Sync] 동기화 실패: lawdCd={}, dealYmd={}, error={}",
@@ -165,19 +187,90 @@ public class ApartmentSyncService {
     }
 
     /**
-     * 개별 거래 저장 (아파트 upsert + 거래 insert)
-     *
-     * @return true if saved, false if duplicate
+     * 청크 저장 (아파트 다건 upsert + 거래 다건 INSERT IGNORE + 최신 거래 갱신)
+     * 일괄 저장이 실패하면 해당 청크만 건별 저장으로 재시도
      */
-    private boolean saveDeal(MolitDealResponse deal, String lawdCd, Set<String> geocodeChecked) {
-        NormalizedDeal normalized = normalizeDeal(deal, lawdCd);
-        if (!normalized.isValid()) {
-            log.warn("[Sync] 필수 값 누락 - 스킵: lawdCd={}, aptNm={}, dealAmount={}",
-                    lawdCd, normalized.aptNm(), normalized.dealAmount());
-            return false;
+    private ChunkResult saveChunk(List<PreparedDeal> chunk) {
+        // 같은 청크 내 동일 아파트는 1회만 upsert
+        Map<String, Apartment> apartments = new LinkedHashMap<>();
+        for (PreparedDeal prepared : chunk) {
+            apartments.put(prepared.apartment().getAptSeq(), prepared.apartment());
+        }
+
+        ChunkResult result;
+        try {
+            apartmentMapper.upsertBatch(new ArrayList<>(apartments.values()));
+            int inserted = apartmentDealMapper.insertBatch(chunk.stream().map(PreparedDeal::deal).toList());
+            result = new ChunkResult(inserted, chunk.size() - inserted, 0);
+        } catch (Exception e) {
+            log.warn("[Sync] 청크 일괄 저장 실패 - 건별 저장으로 전환: size={}, error={}", chunk.size(), e.getMessage());
+            result = saveChunkRowByRow(chunk);
+        }
+
+        afterApartmentsSaved(apartments.values());
+        if (result.inserted() > 0) {
+            List<String> aptSeqs = new ArrayList<>(apartments.keySet());
+            apartmentLatestDealMapper.refreshByAptSeqs(aptSeqs);
+            apartmentLatestDealMapper.syncSortKeysByAptSeqs(aptSeqs);
+        }
+        return result;
+    }
+
+    /**
+     * 건별 저장 (일괄 저장 실패 시 폴백)
+     */
+    private ChunkResult saveChunkRowByRow(List<PreparedDeal> chunk) {
+        int inserted = 0;
+        int duplicates = 0;
+        int failed = 0;
+        for (PreparedDeal prepared : chunk) {
+            try {
+                apartmentMapper.upsert(prepared.apartment());
+                if (apartmentDealMapper.insert(prepared.deal()) > 0) {
+                    inserted++;
+                } else {
+                    log.debug("[Sync] 중복 거래 스킵: aptSeq={}", prepared.apartment().getAptSeq());
+                    duplicates++;
+                }
+            } catch (Exception e) {
+                log.warn("[Sync] 개별 저장 실패: aptNm={}, error={}", prepared.apartment().getAptNm(), e.getMessage());
+                failed++;
+            }
         }
+        return new ChunkResult(inserted, duplicates, failed);
+    }
+
+    /**
+     * 아파트 저장 후처리 (검색 인덱스 갱신, 좌표 보정 큐 등록)
+     * 트랜잭션 안이면 둘 다 같은 afterCommit에서 수행한다
+     * - 롤백된 아파트가 검색 인덱스에 남지 않고, 지오코딩 워커는 커밋된 행을 읽는다
+     */
+    private void afterApartmentsSaved(Collection<Apartment> apartments) {
+        List<Apartment> saved = List.copyOf(apartments);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishSavedApartments(saved);
+                }
+            });
+            return;
+        }
+        publishSavedApartments(saved);
+    }
+
+    private void publishSavedApartments(List<Apartment> apartments) {
+        for (Apartment apartment : apartments) {
+            apartmentSearchIndex.upsert(
+                    apartment.getAptSeq(), apartment.getAptNm(), apartment.getUmdNm(), apartment.getRoadNm());
+        }
+        apartmentGeocodeQueue.enqueueAll(apartments.stream().map(Apartment::getAptSeq).toList());
+    }
 
-        // 1. apt_seq 생성
+    /**
+     * 정규화된 거래 → 저장용 아파트/거래 엔티티
+     */
+    private PreparedDeal prepareDeal(NormalizedDeal normalized) {
         String aptSeq = generateAptSeq(
                 normalized.sggCd(),
                 normalized.umdNm(),
@@ -185,7 +278,6 @@ public class ApartmentSyncService {
                 normalized.jibun()
         );
 
-        // 2. 아파트 Upsert
         Apartment apartment = Apartment.builder()
                 .aptSeq(aptSeq)
                 .sggCd(normalized.sggCd())
@@ -195,20 +287,7 @@ public class ApartmentSyncService {
                 .buildYear(normalized.buildYear())
                 .build();
 
-        apartmentMapper.upsert(apartment);
-
-        if (geocodeChecked.add(aptSeq)) {
-            apartmentGeocodingService.updateCoordinatesIfMissing(
-                    aptSeq,
-                    normalized.sggCd(),
-                    normalized.umdNm(),
-                    normalized.jibun(),
-                    normalized.aptNm()
-            );
-        }
-
-        // 3. 거래 Insert (중복은 DB 유니크 + INSERT IGNORE로 무시)
-        ApartmentDeal dealEntity = ApartmentDeal.builder()
+        ApartmentDeal deal = ApartmentDeal.builder()
                 .aptSeq(aptSeq)
                 .aptDong(normalized.aptDong())
                 .floor(normalized.floor())
@@ -219,12 +298,7 @@ public class ApartmentSyncService {
                 .dealAmount(normalized.dealAmount())
                 .build();
 
-        int inserted = apartmentDealMapper.insert(dealEntity);
-        if (inserted == 0) {
-            log.debug("[Sync] 중복 거래 스킵: aptSeq={}", aptSeq);
-            return false;
-        }
-        return true;
+        return new PreparedDeal(apartment, deal);
     }
 
     /**
@@ -282,6 +356,12 @@ public class ApartmentSyncService {
         return normalized != null ? normalized : "";
     }
 
+    private record PreparedDeal(Apartment apartment, ApartmentDeal deal) {
+    }
+
+    private record ChunkResult(int inserted, int duplicates, int failed) {
+    }
+
     private record NormalizedDeal(
             String sggCd,
             String umdNm,
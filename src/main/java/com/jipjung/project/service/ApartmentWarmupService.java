@@ -1,25 +1,82 @@
 package com.jipjung.project.service;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * 아파트 데이터 비동기 워밍 서비스
  * 요청 응답을 블로킹하지 않고 MOLIT 동기화를 트리거합니다.
+ * <p>
+ * (lawdCd, dealYmd) 단위 single-flight: 같은 키의 워밍이 진행 중이면
+ * 새 작업을 제출하지 않고 진행 중인 작업에 합류(coalesce)한다.
+ * 워밍 풀이 가득 차면 작업을 조용히 버린다 (다음 검색 요청에서 다시 트리거됨).
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ApartmentWarmupService {
 
     private final ApartmentSyncService syncService;
+    private final Executor molitWarmupExecutor;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final Counter queuedCounter;
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+
+    public ApartmentWarmupService(
+            ApartmentSyncService syncService,
+            @Qualifier("molitWarmupExecutor") Executor molitWarmupExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.syncService = syncService;
+        this.molitWarmupExecutor = molitWarmupExecutor;
+
+        Gauge.builder("molit.warmup.inflight", inFlight, Set::size)
+                .description("진행 중인 MOLIT 워밍 작업 수")
+                .register(meterRegistry);
+        this.queuedCounter = meterRegistry.counter("molit.warmup.requests", "result", "queued");
+        this.coalescedCounter = meterRegistry.counter("molit.warmup.requests", "result", "coalesced");
+        this.rejectedCounter = meterRegistry.counter("molit.warmup.requests", "result", "rejected");
+    }
 
-    @Async("molitWarmupExecutor")
     public void warmupIfMissing(String lawdCd, String dealYmd) {
         // TODO: 트래픽 증가 시 큐 기반 워밍(예: Redis/RabbitMQ)으로 전환 고려.
-        log.info("[Warmup] 비동기 동기화 트리거: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
-        syncService.fetchAndCacheIfMissing(lawdCd, dealYmd);
+        String key = lawdCd + ":" + dealYmd;
+        if (!inFlight.add(key)) {
+            coalescedCounter.increment();
+            log.debug("[Warmup] 진행 중인 동기화에 합류: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
+            return;
+        }
+
+        try {
+            molitWarmupExecutor.execute(() -> run(key, lawdCd, dealYmd));
+            queuedCounter.increment();
+            log.info("[Warmup] 비동기 동기화 트리거: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
+        } catch (RejectedExecutionException e) {
+            // 풀 포화: 조용히 버리고 키를 해제해 이후 요청이 다시 시도할 수 있게 한다
+            inFlight.remove(key);
+            rejectedCounter.increment();
+            log.debug("[Warmup] 워밍 풀 포화로 생략: lawdCd={}, dealYmd={}", lawdCd, dealYmd);
+        }
+    }
+
+    private void run(String key, String lawdCd, String dealYmd) {
+        try {
+            syncService.fetchAndCacheIfMissing(lawdCd, dealYmd);
+        } catch (Exception e) {
+            log.warn("[Warmup] 동기화 실패: lawdCd={}, dealYmd={}, error={}", lawdCd, dealYmd, e.getMessage());
+        } finally {
+            inFlight.remove(key);
+        }
     }
 }
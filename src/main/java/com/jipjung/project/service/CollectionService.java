@@ -10,29 +10,31 @@ import com.jipjung.project.controller.dto.response.JourneyResponse.PhaseInfo;
 import com.jipjung.project.domain.ActivityType;
 import com.jipjung.project.domain.Apartment;
 import com.jipjung.project.domain.DreamHome;
+import com.jipjung.project.domain.DreamHomeProgress;
 import com.jipjung.project.domain.DreamHomeStatus;
 import com.jipjung.project.domain.User;
 import com.jipjung.project.domain.UserCollection;
 import com.jipjung.project.global.exception.BusinessException;
 import com.jipjung.project.global.exception.ErrorCode;
-import com.jipjung.project.repository.AiConversationMapper;
 import com.jipjung.project.repository.ApartmentMapper;
 import com.jipjung.project.repository.CollectionMapper;
-import com.jipjung.project.repository.DailyActivityMapper;
 import com.jipjung.project.repository.DreamHomeMapper;
-import com.jipjung.project.repository.StreakMilestoneRewardMapper;
+import com.jipjung.project.repository.DreamHomeProgressMapper;
 import com.jipjung.project.repository.UserMapper;
+import com.jipjung.project.repository.dto.CollectionRow;
+import com.jipjung.project.repository.dto.InProgressSummaryRow;
+import com.jipjung.project.repository.dto.JourneyTimelineRow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +50,7 @@ import java.util.Objects;
  * - 저축 여정 상세 조회 (Phase별 이벤트)
  * - 대표 컬렉션 설정
  * - 목표 달성 시 자동 등록
+ * - 목표 XP 진행 원장(dream_home_progress) 증분 갱신 및 검증
  */
 @Slf4j
 @Service
@@ -58,9 +61,8 @@ public class CollectionService {
     private final UserMapper userMapper;
     private final ApartmentMapper apartmentMapper;
     private final DreamHomeMapper dreamHomeMapper;
-    private final AiConversationMapper aiConversationMapper;
-    private final DailyActivityMapper dailyActivityMapper;
-    private final StreakMilestoneRewardMapper milestoneRewardMapper;
+    private final DreamHomeProgressMapper progressMapper;
+    private final TransactionTemplate transactionTemplate;
 
     // Phase 관련 상수 (PRD 3.1.3 참조)
     private static final int HOUSE_PHASES = 6;  // 집 짓기 단계
@@ -80,7 +82,6 @@ public class CollectionService {
     private static final String EVENT_SAVINGS_DEPOSIT = "SAVINGS_DEPOSIT";
     private static final String EVENT_SAVINGS_WITHDRAW = "SAVINGS_WITHDRAW";
     private static final String EVENT_AI_JUDGMENT = "AI_JUDGMENT";
-    private static final String EVENT_STREAK_PREFIX = "STREAK_";
     private static final String EVENT_STREAK_MILESTONE = "STREAK_MILESTONE";
     private static final String EVENT_LEVEL_UP = "LEVEL_UP";
     private static final String EVENT_HOUSE_COMPLETE = "HOUSE_COMPLETE";
@@ -101,12 +102,12 @@ public class CollectionService {
     public CollectionResponse getCollections(Long userId) {
         checkAndUpdateCompletionByExp(userId);
 
-        List<Map<String, Object>> rawCollections = collectionMapper.findByUserId(userId);
-        Map<String, Object> inProgressData = collectionMapper.findInProgressSummary(userId);
+        List<CollectionRow> collectionRows = collectionMapper.findByUserId(userId);
+        InProgressSummaryRow inProgressData = collectionMapper.findInProgressSummary(userId);
         boolean hasActiveGoal = inProgressData != null || collectionMapper.hasActiveDreamHome(userId);
 
-        List<CollectionItem> collections = rawCollections.stream()
-                .map(CollectionItem::fromMap)
+        List<CollectionItem> collections = collectionRows.stream()
+                .map(CollectionItem::from)
                 .toList();
 
         // 진행 중인 드림홈 정보 조회 (XP 기반 단계 계산)
@@ -133,25 +134,25 @@ public class CollectionService {
     public JourneyResponse getInProgressJourney(Long userId) {
         checkAndUpdateCompletionByExp(userId);
 
-        Map<String, Object> inProgressData = collectionMapper.findInProgressSummary(userId);
+        InProgressSummaryRow inProgressData = collectionMapper.findInProgressSummary(userId);
         if (inProgressData == null) {
             throw new BusinessException(ErrorCode.DREAM_HOME_NOT_FOUND,
                     "진행 중인 드림홈이 없습니다.");
         }
 
-        Long dreamHomeId = getLong(inProgressData, "dream_home_id");
+        Long dreamHomeId = inProgressData.dreamHomeId();
         if (dreamHomeId == null) {
             throw new BusinessException(ErrorCode.DREAM_HOME_NOT_FOUND);
         }
         DreamHome dreamHome = dreamHomeMapper.findById(dreamHomeId);
 
-        Long targetAmount = dreamHome != null ? dreamHome.getTargetAmount() : getLong(inProgressData, "target_amount");
+        Long targetAmount = dreamHome != null ? dreamHome.getTargetAmount() : inProgressData.targetAmount();
         int targetExp = ExpPolicy.calculateTargetExp(targetAmount);
         int safeTargetExp = Math.max(1, targetExp);
 
-        String themeCode = Objects.requireNonNullElse(getString(inProgressData, "theme_code"), "CLASSIC");
-        String propertyName = getString(inProgressData, "property_name");
-        String location = getString(inProgressData, "location");
+        String themeCode = Objects.requireNonNullElse(inProgressData.themeCode(), "CLASSIC");
+        String propertyName = inProgressData.propertyName();
+        String location = inProgressData.location();
 
         LocalDateTime startAt = resolveJourneyStart(dreamHome);
         LocalDateTime endAt = LocalDateTime.now();
@@ -212,15 +213,8 @@ public class CollectionService {
                     "이 컬렉션은 여정 정보가 없습니다.");
         }
 
-        Map<String, Object> detailMap =
-                collectionMapper.findDetailByUserIdAndCollectionId(userId, collectionId);
-        if (detailMap == null) {
-            throw new BusinessException(ErrorCode.DREAM_HOME_NOT_FOUND,
-                    "드림홈 정보를 찾을 수 없습니다.");
-        }
-
-        JourneyCollectionDetail detail = JourneyCollectionDetail.fromMap(detailMap);
-        if (detail.targetAmount() == null) {
+        CollectionRow detail = collectionMapper.findDetailByUserIdAndCollectionId(userId, collectionId);
+        if (detail == null || detail.targetAmount() == null) {
             throw new BusinessException(ErrorCode.DREAM_HOME_NOT_FOUND,
                     "드림홈 정보를 찾을 수 없습니다.");
         }
@@ -228,7 +222,7 @@ public class CollectionService {
         LocalDate completedDate = collection.getCompletedAt() != null
                 ? collection.getCompletedAt().toLocalDate()
                 : LocalDate.now();
-        LocalDate startDate = detail.startDateOr(completedDate);
+        LocalDate startDate = detail.startDate() != null ? detail.startDate() : completedDate;
 
         CollectionInfo collectionInfo = new CollectionInfo(
                 collectionId,
@@ -326,11 +320,7 @@ public class CollectionService {
             return new GoalCompletionResult(wasCompleted, false, null);
         }
 
-        int safeTargetExp = Math.max(1, targetExp);
-        LocalDateTime startAt = resolveJourneyStart(dreamHome);
-        JourneyEventData eventData = loadJourneyEvents(userId, dreamHome.getDreamHomeId(), startAt, LocalDateTime.now());
-        JourneyProgressSnapshot snapshot = calculateProgressSnapshot(eventData.events(), safeTargetExp);
-        int totalExp = snapshot.totalExp();
+        int totalExp = resolveTotalExp(userId, dreamHome, true);
 
         boolean isCompleted = wasCompleted || totalExp >= targetExp;
         boolean justCompleted = !wasCompleted && totalExp >= targetExp;
@@ -358,13 +348,8 @@ public class CollectionService {
             return GoalProgress.empty();
         }
 
-        int safeTargetExp = Math.max(1, targetExp);
-        LocalDateTime startAt = resolveJourneyStart(dreamHome);
-        JourneyEventData eventData = loadJourneyEvents(userId, dreamHome.getDreamHomeId(), startAt, LocalDateTime.now());
-        JourneyProgressSnapshot snapshot = calculateProgressSnapshot(eventData.events(), safeTargetExp);
-
-        int totalExp = snapshot.totalExp();
-        int currentPhase = snapshot.currentPhase();
+        int totalExp = resolveTotalExp(userId, dreamHome, false);
+        int currentPhase = calculatePhase(totalExp, targetExp);
         double percent = Math.min(100.0, Math.max(0.0, (totalExp * 100.0) / targetExp));
         double roundedPercent = Math.round(percent * 10.0) / 10.0;
 
@@ -383,6 +368,169 @@ public class CollectionService {
         return getGoalProgress(userId, dreamHome);
     }
 
+    // =========================================================================
+    // 목표 XP 진행 원장
+    // =========================================================================
+
+    /**
+     * EXP 이벤트 반영 (활성 드림홈 기준)
+     * <p>
+     * 이벤트 행(savings_history, ai_conversation, daily_activity, streak_milestone_reward)을
+     * 저장한 같은 트랜잭션에서 호출한다.
+     *
+     * @param userId   사용자 ID
+     * @param expDelta 이벤트로 실제 반영된 XP (음수 가능)
+     */
+    @Transactional
+    public void recordExpEvent(Long userId, int expDelta) {
+        if (expDelta == 0) {
+            return;
+        }
+        recordExpEvent(userId, dreamHomeMapper.findActiveByUserId(userId), expDelta);
+    }
+
+    /**
+     * EXP 이벤트 반영 (드림홈 지정)
+     * <p>
+     * 원장 행을 잠근 뒤 누적 XP를 클램프(0 이상)하여 갱신한다.
+     * 원장이 없으면(기존 데이터) 방금 저장한 이벤트까지 포함해 리플레이로 생성한다.
+     */
+    @Transactional
+    public void recordExpEvent(Long userId, DreamHome dreamHome, int expDelta) {
+        if (dreamHome == null || dreamHome.getDreamHomeId() == null || expDelta == 0) {
+            return;
+        }
+
+        DreamHomeProgress progress = progressMapper.findByDreamHomeIdForUpdate(dreamHome.getDreamHomeId());
+        if (progress == null) {
+            rebuildProgress(userId, dreamHome);
+            return;
+        }
+
+        int targetExp = ExpPolicy.calculateTargetExp(dreamHome.getTargetAmount());
+        int totalExp = Math.max(0, nullToZero(progress.getTotalExp()) + expDelta);
+        progressMapper.updateProgress(
+                dreamHome.getDreamHomeId(),
+                totalExp,
+                calculatePhase(totalExp, targetExp),
+                LocalDateTime.now()
+        );
+    }
+
+    /**
+     * 신규 드림홈 원장 초기화 (누적 XP 0)
+     */
+    @Transactional
+    public void initializeProgress(DreamHome dreamHome) {
+        if (dreamHome == null || dreamHome.getDreamHomeId() == null) {
+            return;
+        }
+        progressMapper.upsert(DreamHomeProgress.builder()
+                .dreamHomeId(dreamHome.getDreamHomeId())
+                .userId(dreamHome.getUserId())
+                .totalExp(0)
+                .currentPhase(1)
+                .build());
+    }
+
+    /**
+     * 활성 드림홈 원장 검증 및 보정
+     * <p>
+     * 전체 이벤트 리플레이 결과와 원장을 비교해 다르거나 없으면 리플레이 값으로 덮어쓴다.
+     * 드림홈마다 별도 트랜잭션에서 원장 행을 잠근 뒤 리플레이·비교·보정하므로
+     * 검증 도중 들어온 EXP 이벤트가 덮어써지지 않고, 중간에 실패해도 처리된 건은 유지된다.
+     *
+     * @param batchSize 한 번에 조회할 드림홈 수
+     * @return 검증/보정 건수
+     */
+    public ProgressVerifyResult verifyActiveProgress(int batchSize) {
+        int safeBatchSize = Math.max(1, batchSize);
+        int checked = 0;
+        int repaired = 0;
+        long afterId = 0L;
+
+        List<Long> dreamHomeIds;
+        do {
+            dreamHomeIds = progressMapper.findActiveDreamHomeIds(afterId, safeBatchSize);
+            for (Long dreamHomeId : dreamHomeIds) {
+                afterId = dreamHomeId;
+                DreamHome dreamHome = dreamHomeMapper.findById(dreamHomeId);
+                if (dreamHome == null) {
+                    continue;
+                }
+                checked++;
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> verifyProgress(dreamHome)))) {
+                        repaired++;
+                    }
+                } catch (Exception e) {
+                    log.warn("[GoalProgress] 검증 실패 dreamHomeId={}: {}", dreamHomeId, e.getMessage());
+                }
+            }
+        } while (dreamHomeIds.size() == safeBatchSize);
+
+        log.info("[GoalProgress] 원장 검증 완료: checked={}, repaired={}", checked, repaired);
+        return new ProgressVerifyResult(checked, repaired);
+    }
+
+    /**
+     * 드림홈 원장 검증 (호출 측 트랜잭션 안에서 실행)
+     * <p>
+     * 원장 행을 먼저 잠가 recordExpEvent와 직렬화한 뒤 리플레이한다.
+     *
+     * @return 원장을 보정했으면 true
+     */
+    private boolean verifyProgress(DreamHome dreamHome) {
+        DreamHomeProgress stored = progressMapper.findByDreamHomeIdForUpdate(dreamHome.getDreamHomeId());
+        JourneyProgressSnapshot replayed = replayProgress(dreamHome.getUserId(), dreamHome);
+        if (stored != null && nullToZero(stored.getTotalExp()) == replayed.totalExp()) {
+            return false;
+        }
+        log.info("[GoalProgress] 원장 보정 dreamHomeId={}: stored={}, replayed={}",
+                dreamHome.getDreamHomeId(), stored != null ? stored.getTotalExp() : null, replayed.totalExp());
+        saveProgress(dreamHome, replayed);
+        return true;
+    }
+
+    private JourneyProgressSnapshot rebuildProgress(Long userId, DreamHome dreamHome) {
+        JourneyProgressSnapshot snapshot = replayProgress(userId, dreamHome);
+        saveProgress(dreamHome, snapshot);
+        return snapshot;
+    }
+
+    private void saveProgress(DreamHome dreamHome, JourneyProgressSnapshot snapshot) {
+        progressMapper.upsert(DreamHomeProgress.builder()
+                .dreamHomeId(dreamHome.getDreamHomeId())
+                .userId(dreamHome.getUserId())
+                .totalExp(snapshot.totalExp())
+                .currentPhase(snapshot.currentPhase())
+                .lastEventAt(snapshot.lastEventAt())
+                .build());
+    }
+
+    /**
+     * 누적 XP 조회: 원장 1행을 읽고, 없으면 리플레이로 계산
+     *
+     * @param persistIfMissing 원장이 없을 때 리플레이 결과를 저장할지 여부 (쓰기 트랜잭션에서만 true)
+     */
+    private int resolveTotalExp(Long userId, DreamHome dreamHome, boolean persistIfMissing) {
+        DreamHomeProgress progress = progressMapper.findByDreamHomeId(dreamHome.getDreamHomeId());
+        if (progress != null) {
+            return nullToZero(progress.getTotalExp());
+        }
+        JourneyProgressSnapshot snapshot = persistIfMissing
+                ? rebuildProgress(userId, dreamHome)
+                : replayProgress(userId, dreamHome);
+        return snapshot.totalExp();
+    }
+
+    private JourneyProgressSnapshot replayProgress(Long userId, DreamHome dreamHome) {
+        int safeTargetExp = Math.max(1, ExpPolicy.calculateTargetExp(dreamHome.getTargetAmount()));
+        LocalDateTime startAt = resolveJourneyStart(dreamHome);
+        JourneyEventData eventData = loadJourneyEvents(userId, dreamHome.getDreamHomeId(), startAt, LocalDateTime.now());
+        return calculateProgressSnapshot(eventData.events(), safeTargetExp);
+    }
+
     // =========================================================================
     // 목표 달성 시 자동 등록 (DreamHomeService에서 호출)
     // =========================================================================
@@ -480,26 +628,24 @@ public class CollectionService {
         return collection;
     }
 
-    private CollectionResponse.InProgressInfo buildInProgressInfo(Long userId, Map<String, Object> inProgressData) {
+    private CollectionResponse.InProgressInfo buildInProgressInfo(Long userId, InProgressSummaryRow inProgressData) {
         if (inProgressData == null) {
             return null;
         }
 
-        Long dreamHomeId = getLong(inProgressData, "dream_home_id");
+        Long dreamHomeId = inProgressData.dreamHomeId();
         if (dreamHomeId == null) {
-            return CollectionResponse.InProgressInfo.fromMap(inProgressData);
+            return CollectionResponse.InProgressInfo.from(inProgressData);
         }
 
         DreamHome dreamHome = dreamHomeMapper.findById(dreamHomeId);
-        Long targetAmount = dreamHome != null ? dreamHome.getTargetAmount() : getLong(inProgressData, "target_amount");
-        int targetExp = ExpPolicy.calculateTargetExp(targetAmount);
-        int safeTargetExp = Math.max(1, targetExp);
-
-        LocalDateTime startAt = resolveJourneyStart(dreamHome);
-        JourneyEventData eventData = loadJourneyEvents(userId, dreamHomeId, startAt, LocalDateTime.now());
-        JourneyProgressSnapshot snapshot = calculateProgressSnapshot(eventData.events(), safeTargetExp);
+        if (dreamHome == null) {
+            return CollectionResponse.InProgressInfo.from(inProgressData);
+        }
+        int targetExp = ExpPolicy.calculateTargetExp(dreamHome.getTargetAmount());
+        int totalExp = resolveTotalExp(userId, dreamHome, false);
 
-        return CollectionResponse.InProgressInfo.fromMap(inProgressData, snapshot.currentPhase());
+        return CollectionResponse.InProgressInfo.from(inProgressData, calculatePhase(totalExp, targetExp));
     }
 
     /**
@@ -541,124 +687,61 @@ public class CollectionService {
             safeEnd = tmp;
         }
 
-        List<JourneyXpEvent> events = new ArrayList<>();
+        List<JourneyTimelineRow> rows = collectionMapper.findJourneyTimeline(dreamHomeId, userId, safeStart, safeEnd);
+        List<JourneyXpEvent> events = new ArrayList<>(rows.size());
         int totalDeposits = 0;
 
-        List<Map<String, Object>> savingsEvents = collectionMapper.findJourneyEvents(dreamHomeId);
-        for (Map<String, Object> raw : savingsEvents) {
-            LocalDateTime date = getLocalDateTime(raw, "date");
-            if (!isWithinRange(date, safeStart, safeEnd)) {
-                continue;
-            }
-
-            String saveType = getString(raw, "event_type");
-            Long amount = getLong(raw, "amount");
-            String memo = getString(raw, "memo");
-
-            boolean isDeposit = "DEPOSIT".equalsIgnoreCase(saveType);
-            int expChange = isDeposit ? ExpPolicy.calculateSavingsExp(amount) : 0;
-            if (isDeposit) {
+        // 기간 필터와 정렬은 쿼리에서 처리되므로 행 순서 그대로 이벤트로 변환
+        for (JourneyTimelineRow row : rows) {
+            String eventType = row.eventType();
+            int expChange;
+            String memo;
+            if (EVENT_SAVINGS_DEPOSIT.equals(eventType)) {
+                expChange = ExpPolicy.calculateSavingsExp(row.amount());
+                memo = row.memo();
                 totalDeposits++;
+            } else if (EVENT_SAVINGS_WITHDRAW.equals(eventType)) {
+                expChange = 0;
+                memo = row.memo();
+            } else if (EVENT_AI_JUDGMENT.equals(eventType)) {
+                expChange = nullToZero(row.expChange());
+                memo = buildAiMemo(row.judgmentResult(), row.judgmentScore());
+            } else if (EVENT_STREAK_MILESTONE.equals(eventType)) {
+                int milestoneDays = nullToZero(row.milestoneDays());
+                expChange = nullToZero(row.expChange());
+                memo = milestoneDays > 0
+                        ? "마일스톤 " + milestoneDays + "일 보상"
+                        : "마일스톤 보상";
+            } else {
+                expChange = nullToZero(row.expChange());
+                memo = buildActivityMemo(row.activityType());
             }
 
-            String eventType = isDeposit ? EVENT_SAVINGS_DEPOSIT : EVENT_SAVINGS_WITHDRAW;
             events.add(new JourneyXpEvent(
-                    getLong(raw, "event_id"),
+                    row.eventId(),
                     eventType,
-                    date,
-                    expChange,
-                    memo,
-                    amount
-            ));
-        }
-
-        List<Map<String, Object>> aiEvents = aiConversationMapper.findJudgedEventsByUserIdAndDateRange(
-                userId, safeStart, safeEnd
-        );
-        for (Map<String, Object> raw : aiEvents) {
-            LocalDateTime date = getLocalDateTime(raw, "updated_at");
-            if (!isWithinRange(date, safeStart, safeEnd)) {
-                continue;
-            }
-            int expChange = nullToZero(getInt(raw, "exp_change"));
-            String result = getString(raw, "judgment_result");
-            Integer score = getInt(raw, "judgment_score");
-            String memo = buildAiMemo(result, score);
-
-            events.add(new JourneyXpEvent(
-                    getLong(raw, "conversation_id"),
-                    EVENT_AI_JUDGMENT,
-                    date,
+                    row.eventAt(),
                     expChange,
                     memo,
-                    null
-            ));
-        }
-
-        List<Map<String, Object>> activityEvents = dailyActivityMapper.findExpEventsByUserIdAndDateRange(
-                userId, safeStart, safeEnd
-        );
-        for (Map<String, Object> raw : activityEvents) {
-            LocalDateTime date = getLocalDateTime(raw, "created_at");
-            if (!isWithinRange(date, safeStart, safeEnd)) {
-                continue;
-            }
-            String activityType = getString(raw, "activity_type");
-            int expEarned = nullToZero(getInt(raw, "exp_earned"));
-            String memo = buildActivityMemo(activityType);
-            String eventType = EVENT_STREAK_PREFIX + normalizeEventType(activityType);
-
-            events.add(new JourneyXpEvent(
-                    getLong(raw, "activity_id"),
-                    eventType,
-                    date,
-                    expEarned,
-                    memo,
-                    null
+                    row.amount()
             ));
         }
 
-        List<Map<String, Object>> milestoneEvents = milestoneRewardMapper.findRewardsByUserIdAndDateRange(
-                userId, safeStart, safeEnd
-        );
-        for (Map<String, Object> raw : milestoneEvents) {
-            LocalDateTime date = getLocalDateTime(raw, "claimed_at");
-            if (!isWithinRange(date, safeStart, safeEnd)) {
-                continue;
-            }
-            int expReward = nullToZero(getInt(raw, "exp_reward"));
-            int milestoneDays = nullToZero(getInt(raw, "milestone_days"));
-            String memo = milestoneDays > 0
-                    ? "마일스톤 " + milestoneDays + "일 보상"
-                    : "마일스톤 보상";
-
-            events.add(new JourneyXpEvent(
-                    getLong(raw, "reward_id"),
-                    EVENT_STREAK_MILESTONE,
-                    date,
-                    expReward,
-                    memo,
-                    null
-            ));
-        }
-
-        events.sort(Comparator.comparing(JourneyXpEvent::date)
-                .thenComparing(event -> nullToZero(event.eventId()))
-                .thenComparing(JourneyXpEvent::eventType, Comparator.nullsLast(Comparator.naturalOrder())));
-
         return new JourneyEventData(events, totalDeposits);
     }
 
     private JourneyProgressSnapshot calculateProgressSnapshot(List<JourneyXpEvent> events, int targetExp) {
         int cumulativeExp = 0;
         int currentPhase = 1;
+        LocalDateTime lastEventAt = null;
 
         for (JourneyXpEvent event : events) {
             cumulativeExp = Math.max(0, cumulativeExp + nullToZero(event.expChange()));
             currentPhase = calculatePhase(cumulativeExp, targetExp);
+            lastEventAt = event.date();
         }
 
-        return new JourneyProgressSnapshot(cumulativeExp, currentPhase);
+        return new JourneyProgressSnapshot(cumulativeExp, currentPhase, lastEventAt);
     }
 
     private LocalDateTime resolveJourneyStart(DreamHome dreamHome) {
@@ -724,10 +807,6 @@ public class CollectionService {
         }
     }
 
-    private static String normalizeEventType(String rawType) {
-        return rawType != null ? rawType.toUpperCase() : "UNKNOWN";
-    }
-
     private static JourneyEvent toJourneyEvent(JourneyXpEvent event, int cumulativeExp) {
         return new JourneyEvent(
                 event.eventId(),
@@ -741,16 +820,6 @@ public class CollectionService {
         );
     }
 
-    private static boolean isWithinRange(LocalDateTime date, LocalDateTime startAt, LocalDateTime endAt) {
-        if (date == null) {
-            return false;
-        }
-        if (startAt != null && date.isBefore(startAt)) {
-            return false;
-        }
-        return endAt == null || !date.isAfter(endAt);
-    }
-
     /**
      * 이벤트를 Phase별로 그룹핑 (XP 기준)
      * <p>
@@ -761,11 +830,9 @@ public class CollectionService {
     private JourneyPhaseResult buildPhasesFromEvents(List<JourneyXpEvent> rawEvents,
                                                      int targetExp,
                                                      String themeCode) {
+        // 이벤트는 findJourneyTimeline에서 이미 시간순 정렬되어 전달된다
         List<JourneyXpEvent> events = rawEvents.stream()
                 .filter(event -> event.date() != null)
-                .sorted(Comparator.comparing(JourneyXpEvent::date)
-                        .thenComparing(event -> nullToZero(event.eventId()))
-                        .thenComparing(JourneyXpEvent::eventType, Comparator.nullsLast(Comparator.naturalOrder())))
                 .toList();
 
         Map<Integer, List<JourneyEvent>> phaseEvents = new LinkedHashMap<>();
@@ -957,43 +1024,6 @@ public class CollectionService {
         return val != null ? val : 0;
     }
 
-    // Map 헬퍼
-    private static Long getLong(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        if (val == null) return null;
-        if (val instanceof Long l) return l;
-        if (val instanceof Number n) return n.longValue();
-        return null;
-    }
-
-    private static Integer getInt(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        if (val == null) return null;
-        if (val instanceof Integer i) return i;
-        if (val instanceof Number n) return n.intValue();
-        return null;
-    }
-
-    private static String getString(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        return val != null ? val.toString() : null;
-    }
-
-    private static LocalDate getLocalDate(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        if (val instanceof LocalDate ld) return ld;
-        if (val instanceof java.sql.Date d) return d.toLocalDate();
-        if (val instanceof java.sql.Timestamp ts) return ts.toLocalDateTime().toLocalDate();
-        return null;
-    }
-
-    private static LocalDateTime getLocalDateTime(Map<String, Object> map, String key) {
-        Object val = map.get(key);
-        if (val instanceof LocalDateTime ldt) return ldt;
-        if (val instanceof java.sql.Timestamp ts) return ts.toLocalDateTime();
-        return null;
-    }
-
     private record JourneyXpEvent(
             Long eventId,
             String eventType,
@@ -1007,7 +1037,9 @@ public class CollectionService {
 
     private record JourneyPhaseResult(List<PhaseInfo> phases, int totalExp, int currentPhase) {}
 
-    private record JourneyProgressSnapshot(int totalExp, int currentPhase) {}
+    private record JourneyProgressSnapshot(int totalExp, int currentPhase, LocalDateTime lastEventAt) {}
+
+    public record ProgressVerifyResult(int checked, int repaired) {}
 
     public record GoalCompletionResult(
             boolean isCompleted,
@@ -1025,28 +1057,4 @@ public class CollectionService {
             return new GoalProgress(0, 0, 1, 0.0);
         }
     }
-
-    private record JourneyCollectionDetail(
-            Long targetAmount,
-            LocalDate startDate,
-            String themeName,
-            String themeCode,
-            String propertyName,
-            String location
-    ) {
-        static JourneyCollectionDetail fromMap(Map<String, Object> map) {
-            return new JourneyCollectionDetail(
-                    getLong(map, "target_amount"),
-                    getLocalDate(map, "start_date"),
-                    getString(map, "theme_name"),
-                    getString(map, "theme_code"),
-                    getString(map, "property_name"),
-                    getString(map, "location")
-            );
-        }
-
-        LocalDate startDateOr(LocalDate fallback) {
-            return startDate != null ? startDate : fallback;
-        }
-    }
 }
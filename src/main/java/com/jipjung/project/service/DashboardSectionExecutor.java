@@ -0,0 +1,111 @@
+package com.jipjung.project.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 섹션 병렬 실행기
+ * <p>
+ * 서로 의존하지 않는 대시보드 섹션을 전용 풀(dashboardSectionPool)에서 동시에 조회한다.
+ * <ul>
+ *   <li>섹션마다 타임아웃을 두고, 실패/타임아웃 시 해당 섹션만 폴백 값으로 대체</li>
+ *   <li>섹션별 지연을 dashboard.section.latency{section, outcome} 타이머로 기록</li>
+ * </ul>
+ * 폴백 Supplier는 타임아웃 스레드에서 호출될 수 있으므로 DB 조회 없이 상수만 반환해야 한다.
+ * <p>
+ * 설정: dashboard.parallel.enabled / section-timeout-ms / workers / queue-capacity
+ */
+@Component
+@Slf4j
+public class DashboardSectionExecutor {
+
+    private static final String METRIC_SECTION_LATENCY = "dashboard.section.latency";
+
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final long sectionTimeoutMs;
+
+    public DashboardSectionExecutor(
+            @Qualifier("dashboardSectionPool") Executor executor,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.parallel.enabled:false}") boolean enabled,
+            @Value("${dashboard.parallel.section-timeout-ms:1000}") long sectionTimeoutMs
+    ) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.sectionTimeoutMs = Math.max(1, sectionTimeoutMs);
+    }
+
+    /**
+     * 병렬 조립 모드 활성 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 섹션 비동기 실행 (예외/타임아웃은 폴백 값으로 정상 완료)
+     *
+     * @param section  섹션 이름 (메트릭 태그)
+     * @param loader   섹션 조회 로직
+     * @param fallback 실패 시 대체 값 (상수만 반환할 것)
+     * @return 예외로 완료되지 않는 Future
+     */
+    public <T> CompletableFuture<T> submit(String section, Supplier<T> loader, Supplier<T> fallback) {
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(loader, executor);
+        } catch (RejectedExecutionException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        return future
+                .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((value, error) -> {
+                    long elapsedNanos = System.nanoTime() - startedAt;
+                    if (error == null) {
+                        record(section, "success", elapsedNanos);
+                        return value;
+                    }
+                    Throwable cause = unwrap(error);
+                    String outcome = cause instanceof TimeoutException ? "timeout" : "error";
+                    record(section, outcome, elapsedNanos);
+                    log.warn("[Dashboard] 섹션 폴백: section={}, outcome={}, elapsedMs={}, error={}",
+                            section, outcome, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), cause.toString());
+                    return fallback.get();
+                });
+    }
+
+    private void record(String section, String outcome, long elapsedNanos) {
+        Timer.builder(METRIC_SECTION_LATENCY)
+                .tag("section", section)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+        return current;
+    }
+}
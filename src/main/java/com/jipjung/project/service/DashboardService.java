@@ -1,24 +1,26 @@
 package com.jipjung.project.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jipjung.project.controller.dto.response.DashboardResponse;
 import com.jipjung.project.controller.dto.response.DashboardResponse.AssetsData;
+import com.jipjung.project.controller.dto.response.DashboardResponse.AssetsSection;
 import com.jipjung.project.controller.dto.response.DashboardResponse.ChartData;
 import com.jipjung.project.controller.dto.response.DashboardResponse.DsrSection;
 import com.jipjung.project.controller.dto.response.DashboardResponse.GapAnalysisSection;
 import com.jipjung.project.domain.*;
-import com.jipjung.project.dsr.DsrInput;
-import com.jipjung.project.dsr.DsrPolicy;
 import com.jipjung.project.dsr.DsrResult;
+import com.jipjung.project.global.exception.BusinessException;
 import com.jipjung.project.global.exception.ErrorCode;
 import com.jipjung.project.global.exception.ResourceNotFoundException;
 import com.jipjung.project.repository.*;
+import com.jipjung.project.service.SavingsDailyBalanceService.BalanceWindow;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Clock;
 import java.time.DayOfWeek;
@@ -30,6 +32,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 대시보드 서비스
@@ -45,6 +49,8 @@ public class DashboardService {
     private static final int DEFAULT_THEME_ID = 1;
     private static final int DEFAULT_LEVEL = 1;
     private static final int CHART_WINDOW_DAYS = 30;
+    /** 자산 차트 조회 가능 기간 (일) */
+    private static final Set<Integer> CHART_WINDOW_OPTIONS = Set.of(30, 90, 365);
     private static final int DEFAULT_TOTAL_STEPS = 7;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final AssetsData EMPTY_ASSETS = new AssetsData(0, 0, 0.0, List.of());
@@ -53,97 +59,114 @@ public class DashboardService {
     private static final long DEFAULT_REGION_AVG_PRICE = 950_000_000L;
 
     private final UserMapper userMapper;
-    private final GrowthLevelMapper growthLevelMapper;
-    private final HouseThemeMapper houseThemeMapper;
+    private final ReferenceDataCache referenceDataCache;
     private final DreamHomeMapper dreamHomeMapper;
     private final SavingsHistoryMapper savingsHistoryMapper;
     private final StreakHistoryMapper streakHistoryMapper;
-    private final DsrHistoryMapper dsrHistoryMapper;
     private final UserPreferredAreaMapper userPreferredAreaMapper;
     private final ApartmentDealMapper apartmentDealMapper;
     private final DsrService dsrService;
-    private final StreakService streakService;
     private final CollectionService collectionService;
-    private final ObjectMapper objectMapper;
+    private final SavingsDailyBalanceService savingsDailyBalanceService;
+    private final DashboardSectionExecutor sectionExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
     private final Clock clock;
 
     @Autowired
     public DashboardService(
             UserMapper userMapper,
-            GrowthLevelMapper growthLevelMapper,
-            HouseThemeMapper houseThemeMapper,
+            ReferenceDataCache referenceDataCache,
             DreamHomeMapper dreamHomeMapper,
             SavingsHistoryMapper savingsHistoryMapper,
             StreakHistoryMapper streakHistoryMapper,
-            DsrHistoryMapper dsrHistoryMapper,
             UserPreferredAreaMapper userPreferredAreaMapper,
             ApartmentDealMapper apartmentDealMapper,
             DsrService dsrService,
-            StreakService streakService,
             CollectionService collectionService,
-            ObjectMapper objectMapper
+            SavingsDailyBalanceService savingsDailyBalanceService,
+            DashboardSectionExecutor sectionExecutor,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate
     ) {
         this(
                 userMapper,
-                growthLevelMapper,
-                houseThemeMapper,
+                referenceDataCache,
                 dreamHomeMapper,
                 savingsHistoryMapper,
                 streakHistoryMapper,
-                dsrHistoryMapper,
                 userPreferredAreaMapper,
                 apartmentDealMapper,
                 dsrService,
-                streakService,
                 collectionService,
-                objectMapper,
+                savingsDailyBalanceService,
+                sectionExecutor,
+                eventPublisher,
+                transactionTemplate,
                 Clock.system(ZONE_KST)
         );
     }
 
     public DashboardService(
             UserMapper userMapper,
-            GrowthLevelMapper growthLevelMapper,
-            HouseThemeMapper houseThemeMapper,
+            ReferenceDataCache referenceDataCache,
             DreamHomeMapper dreamHomeMapper,
             SavingsHistoryMapper savingsHistoryMapper,
             StreakHistoryMapper streakHistoryMapper,
-            DsrHistoryMapper dsrHistoryMapper,
             UserPreferredAreaMapper userPreferredAreaMapper,
             ApartmentDealMapper apartmentDealMapper,
             DsrService dsrService,
-            StreakService streakService,
             CollectionService collectionService,
-            ObjectMapper objectMapper,
+            SavingsDailyBalanceService savingsDailyBalanceService,
+            DashboardSectionExecutor sectionExecutor,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
             Clock clock
     ) {
         this.userMapper = userMapper;
-        this.growthLevelMapper = growthLevelMapper;
-        this.houseThemeMapper = houseThemeMapper;
+        this.referenceDataCache = referenceDataCache;
         this.dreamHomeMapper = dreamHomeMapper;
         this.savingsHistoryMapper = savingsHistoryMapper;
         this.streakHistoryMapper = streakHistoryMapper;
-        this.dsrHistoryMapper = dsrHistoryMapper;
         this.userPreferredAreaMapper = userPreferredAreaMapper;
         this.apartmentDealMapper = apartmentDealMapper;
         this.dsrService = dsrService;
-        this.streakService = streakService;
         this.collectionService = collectionService;
-        this.objectMapper = objectMapper;
+        this.savingsDailyBalanceService = savingsDailyBalanceService;
+        this.sectionExecutor = sectionExecutor;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransaction.setReadOnly(true);
         this.clock = clock;
     }
 
     /**
      * 대시보드 통합 데이터 조회
      * <p>
-     * 대시보드 접속 시 활동 기반 스트릭에 참여하므로 쓰기 트랜잭션이 필요합니다.
+     * 읽기 전용으로 조회하고, 접속 스트릭 참여/XP 완료 보정 등 쓰기 작업은
+     * {@link DashboardViewedEvent}로 발행하여 트랜잭션 종료 후 비동기로 처리합니다.
+     * dashboard.parallel.enabled=true이면 독립 섹션을 병렬로 조회합니다.
+     * <p>
+     * 병렬 모드는 트랜잭션 없이 조립합니다. 요청 스레드가 읽기 트랜잭션으로 커넥션을 쥔 채
+     * 같은 풀을 쓰는 섹션 작업을 기다리면 풀이 고갈될 수 있기 때문입니다.
+     * 순차 모드는 기존처럼 하나의 읽기 전용 트랜잭션에서 조회합니다.
      *
      * @param userId 사용자 ID
      * @return 대시보드 응답 DTO
      * @throws ResourceNotFoundException 사용자를 찾을 수 없는 경우
      */
-    @Transactional(readOnly = false)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardResponse getDashboard(Long userId) {
+        if (sectionExecutor.isEnabled()) {
+            return getDashboardParallel(userId);
+        }
+        return readOnlyTransaction.execute(status -> getDashboardSequential(userId));
+    }
+
+    /**
+     * 대시보드 순차 조립 (읽기 전용 트랜잭션 안에서 호출)
+     */
+    private DashboardResponse getDashboardSequential(Long userId) {
         // 1. User 조회 (is_deleted=false, 없으면 예외)
         User user = findUserOrThrow(userId);
 
@@ -161,13 +184,6 @@ public class DashboardService {
         // 5. DreamHome 조회 (ACTIVE 우선, 없으면 최근 COMPLETED; 없으면 null)
         DreamHome dreamHome = dreamHomeMapper.findLatestForDashboardByUserId(userId);
 
-        // 5-1. XP 기준 완료 상태 보정 (대시보드 진입 시에도 동기화)
-        CollectionService.GoalCompletionResult completionResult =
-                collectionService.checkAndUpdateCompletionByExp(userId);
-        if (completionResult.justCompleted()) {
-            dreamHome = dreamHomeMapper.findLatestForDashboardByUserId(userId);
-        }
-
         // 6. HouseTheme 조회 (fallback + 로깅)
         HouseTheme houseTheme = resolveHouseTheme(user.getSelectedThemeId());
 
@@ -188,13 +204,8 @@ public class DashboardService {
         // 10. Gap Analysis 계산 (Phase 2)
         GapAnalysisSection gapAnalysis = buildGapAnalysis(userId, user, dreamHome, dsrContext.maxLoanAmount(), preferredAreas);
 
-        // 11. 대시보드 접속 스트릭 참여 (1일 1회)
-        try {
-            streakService.participate(userId, ActivityType.DASHBOARD);
-        } catch (Exception e) {
-            log.warn("Dashboard streak participation failed for userId: {}", userId, e);
-            // 실패해도 대시보드 조회는 정상 진행
-        }
+        // 11. 조회 후속 처리 (XP 완료 보정, 접속 스트릭 참여) - 커밋 후 비동기
+        eventPublisher.publishEvent(new DashboardViewedEvent(userId, dsrContext.staleDsrCache()));
 
         // 12. 응답 생성
         CollectionService.GoalProgress goalProgress = collectionService.getGoalProgress(userId, dreamHome);
@@ -211,6 +222,105 @@ public class DashboardService {
         );
     }
 
+    /**
+     * 대시보드 병렬 조립
+     * <p>
+     * 사용자/드림홈은 요청 스레드에서 먼저 조회하고,
+     * 나머지 독립 섹션은 섹션별 타임아웃과 폴백을 두고 동시에 조회한다.
+     * 요청 스레드도 트랜잭션 밖이므로 조회마다 커넥션을 빌렸다 바로 반납하고,
+     * 섹션 작업은 각자 커넥션을 사용한다 (모두 조회 전용).
+     */
+    private DashboardResponse getDashboardParallel(Long userId) {
+        User user = findUserOrThrow(userId);
+
+        // 드림홈 조회 (이후 섹션들이 의존)
+        DreamHome dreamHome = dreamHomeMapper.findLatestForDashboardByUserId(userId);
+
+        LocalDate today = LocalDate.now(clock);
+        LocalDate weekStart = today.with(DayOfWeek.MONDAY);
+        LocalDate weekEnd = weekStart.plusDays(6);
+
+        CompletableFuture<List<String>> preferredAreasFuture = sectionExecutor.submit(
+                "preferred-areas", () -> loadPreferredAreas(userId), List::of);
+        CompletableFuture<ResolvedLevel> levelFuture = sectionExecutor.submit(
+                "growth-level", () -> resolveGrowthLevel(resolveUserLevel(user)),
+                () -> new ResolvedLevel(DEFAULT_LEVEL, null));
+        CompletableFuture<Integer> totalStepsFuture = sectionExecutor.submit(
+                "total-steps", this::resolveTotalSteps, () -> DEFAULT_TOTAL_STEPS);
+        CompletableFuture<HouseTheme> houseThemeFuture = sectionExecutor.submit(
+                "house-theme", () -> resolveHouseTheme(user.getSelectedThemeId()), DashboardService::builtInDefaultTheme);
+        CompletableFuture<List<StreakHistory>> weeklyStreaksFuture = sectionExecutor.submit(
+                "weekly-streaks", () -> streakHistoryMapper.findByUserIdAndWeek(userId, weekStart, weekEnd), List::of);
+        CompletableFuture<Boolean> todayParticipatedFuture = sectionExecutor.submit(
+                "today-participated", () -> streakHistoryMapper.existsByUserIdAndDate(userId, today), () -> false);
+        CompletableFuture<AssetsData> assetsFuture = sectionExecutor.submit(
+                "assets", () -> buildAssetsData(dreamHome, today), () -> EMPTY_ASSETS);
+        CompletableFuture<DsrCalculationContext> dsrFuture = sectionExecutor.submit(
+                "dsr", () -> resolveDsrContext(userId, user), () -> null);
+        CompletableFuture<Long> latestDealPriceFuture = sectionExecutor.submit(
+                "latest-deal-price", () -> resolveLatestDealPrice(dreamHome), () -> null);
+        CompletableFuture<CollectionService.GoalProgress> goalProgressFuture = sectionExecutor.submit(
+                "goal-progress", () -> collectionService.getGoalProgress(userId, dreamHome),
+                CollectionService.GoalProgress::empty);
+
+        // Gap Analysis는 DSR 한도와 선호 지역에 의존
+        CompletableFuture<GapAnalysisSection> gapAnalysisFuture = dsrFuture
+                .thenCombine(preferredAreasFuture, (dsrContext, preferredAreas) -> dsrContext)
+                .thenCompose(dsrContext -> dsrContext == null
+                        ? CompletableFuture.completedFuture(null)
+                        : sectionExecutor.submit("gap-analysis",
+                                () -> buildGapAnalysis(userId, user, dreamHome, dsrContext.maxLoanAmount(),
+                                        preferredAreasFuture.join()),
+                                () -> null));
+
+        CompletableFuture.allOf(
+                preferredAreasFuture, levelFuture, totalStepsFuture, houseThemeFuture,
+                weeklyStreaksFuture, todayParticipatedFuture, assetsFuture, dsrFuture,
+                latestDealPriceFuture, goalProgressFuture, gapAnalysisFuture
+        ).join();
+
+        ResolvedLevel resolvedLevel = levelFuture.join();
+        DsrCalculationContext dsrContext = dsrFuture.join();
+        eventPublisher.publishEvent(new DashboardViewedEvent(userId, dsrContext != null && dsrContext.staleDsrCache()));
+
+        DsrSection dsrSection = dsrContext != null
+                ? DsrSection.from(user, dsrContext.dsrResult(), dsrContext.recognizedAnnualIncome())
+                : null;
+        CollectionService.GoalProgress goalProgress = goalProgressFuture.join();
+
+        return DashboardResponse.from(
+                user, resolvedLevel.growthLevel(), dreamHome, weeklyStreaksFuture.join(),
+                todayParticipatedFuture.join(), assetsFuture.join(), houseThemeFuture.join(), totalStepsFuture.join(),
+                dsrSection, gapAnalysisFuture.join(), preferredAreasFuture.join(),
+                latestDealPriceFuture.join(),
+                new DashboardResponse.GoalExpProgress(
+                        goalProgress.targetExp(),
+                        goalProgress.totalExp(),
+                        goalProgress.expProgress(),
+                        goalProgress.currentPhase()
+                )
+        );
+    }
+
+    /**
+     * 자산 차트 기간별 조회
+     * <p>
+     * 대시보드 기본 차트(30일) 외에 90일/365일 차트를 일별 잔액 롤업으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param days   차트 기간 (30, 90, 365)
+     * @return 자산 섹션 (드림홈이 없으면 빈 차트)
+     * @throws BusinessException 지원하지 않는 기간인 경우
+     */
+    public AssetsSection getAssets(Long userId, int days) {
+        if (!CHART_WINDOW_OPTIONS.contains(days)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "차트 기간은 30, 90, 365일만 지원합니다: " + days);
+        }
+        DreamHome dreamHome = dreamHomeMapper.findLatestForDashboardByUserId(userId);
+        return AssetsSection.from(buildAssetsData(dreamHome, LocalDate.now(clock), days));
+    }
+
     // ==========================================================================
     // Phase 2: DSR & Gap Analysis
     // ==========================================================================
@@ -219,30 +329,20 @@ public class DashboardService {
      * DSR 컨텍스트 결정 (PRO 우선)
      */
     private DsrCalculationContext resolveDsrContext(Long userId, User user) {
-        DsrCalculationHistory latestPro = dsrHistoryMapper.findLatestProByUserId(userId);
-        if (latestPro != null) {
-            try {
-                DsrResult dsrResult = objectMapper.readValue(latestPro.getResultJson(), DsrResult.class);
-                DsrInput dsrInput = objectMapper.readValue(latestPro.getInputJson(), DsrInput.class);
-
-                // PRO 입력 기반으로 인정소득 재계산
-                int ageAtSimulation = dsrInput.age();
-                DsrPolicy policy = DsrPolicy.bankDefault2025H2();
-                long recognizedAnnualIncome = Math.round(dsrInput.annualIncome() * policy.getYouthIncomeMultiplier(ageAtSimulation));
-
-                return new DsrCalculationContext(dsrResult, latestPro.getMaxLoanAmount(), recognizedAnnualIncome);
-            } catch (JsonProcessingException e) {
-                log.warn("Failed to parse PRO DSR history. Falling back to LITE and invalidating stale cache. userId: {}", userId, e);
-                invalidateDsrCacheIfPresent(userId, user);
-            }
-        } else if (user.getCachedMaxLoanAmount() != null) {
-            log.info("Cached PRO max loan exists without PRO history. Invalidating and recalculating with LITE. userId: {}", userId);
-            invalidateDsrCacheIfPresent(userId, user);
+        // PRO 결과는 시뮬레이션 시 저장된 스냅샷 컬럼으로 복원 (인정소득 포함, JSON 파싱 없음)
+        UserDsrSnapshot proSnapshot = dsrService.findProSnapshot(userId);
+        if (proSnapshot != null) {
+            return new DsrCalculationContext(
+                    proSnapshot.toDsrResult(),
+                    defaultIfNull(proSnapshot.getMaxLoanAmount(), 0L),
+                    defaultIfNull(proSnapshot.getRecognizedAnnualIncome(), 0L),
+                    false
+            );
         }
-
-        // LITE 계산 (PRO 이력 부재 혹은 파싱 실패 시)
+        // LITE 계산 (PRO 스냅샷 부재 시), 남은 캐시 무효화는 조회 이벤트에서 처리
         DsrService.LiteDsrSnapshot snapshot = dsrService.calculateLiteDsrSnapshot(user);
-        return new DsrCalculationContext(snapshot.result(), snapshot.result().maxLoanAmount(), snapshot.recognizedAnnualIncome());
+        return new DsrCalculationContext(snapshot.result(), snapshot.result().maxLoanAmount(),
+                snapshot.recognizedAnnualIncome(), user.getCachedMaxLoanAmount() != null);
     }
 
     /**
@@ -318,19 +418,8 @@ public class DashboardService {
         return DEFAULT_REGION_AVG_PRICE;
     }
 
-    private void invalidateDsrCacheIfPresent(Long userId, User user) {
-        if (user.getCachedMaxLoanAmount() == null) {
-            return;
-        }
-        try {
-            int updated = userMapper.invalidateDsrCache(userId);
-            log.info("Invalidated stale DSR cache for user {} (rows={})", userId, updated);
-        } catch (DataAccessException e) {
-            log.warn("Failed to invalidate DSR cache for user {}.", userId, e);
-        }
-    }
-
-    private record DsrCalculationContext(DsrResult dsrResult, long maxLoanAmount, long recognizedAnnualIncome) {}
+    private record DsrCalculationContext(DsrResult dsrResult, long maxLoanAmount, long recognizedAnnualIncome,
+                                         boolean staleDsrCache) {}
 
     // ==========================================================================
     // Private Helper Methods
@@ -367,20 +456,20 @@ public class DashboardService {
     }
 
     private int resolveTotalSteps() {
-        int count = growthLevelMapper.countAll();
+        int count = referenceDataCache.countGrowthLevels();
         return count > 0 ? count : DEFAULT_TOTAL_STEPS;
     }
 
     private HouseTheme resolveHouseTheme(Integer selectedThemeId) {
         if (selectedThemeId != null) {
-            HouseTheme theme = houseThemeMapper.findById(selectedThemeId);
+            HouseTheme theme = referenceDataCache.findTheme(selectedThemeId);
             if (theme != null && Boolean.TRUE.equals(theme.getIsActive())) {
                 return theme;
             }
             log.warn("Theme {} not found or inactive. Falling back to default theme.", selectedThemeId);
         }
 
-        HouseTheme fallback = houseThemeMapper.findById(DEFAULT_THEME_ID);
+        HouseTheme fallback = referenceDataCache.findTheme(DEFAULT_THEME_ID);
         if (fallback != null && Boolean.TRUE.equals(fallback.getIsActive())) {
             return fallback;
         }
@@ -389,6 +478,10 @@ public class DashboardService {
         }
 
         log.error("Default theme (id={}) not found. Using built-in default.", DEFAULT_THEME_ID);
+        return builtInDefaultTheme();
+    }
+
+    private static HouseTheme builtInDefaultTheme() {
         return HouseTheme.builder()
                 .themeId(DEFAULT_THEME_ID)
                 .themeCode("MODERN")
@@ -399,13 +492,13 @@ public class DashboardService {
     }
 
     private ResolvedLevel resolveGrowthLevel(int requestedLevel) {
-        GrowthLevel level = growthLevelMapper.findByLevel(requestedLevel);
+        GrowthLevel level = referenceDataCache.findGrowthLevel(requestedLevel);
         if (level != null || requestedLevel == DEFAULT_LEVEL) {
             return new ResolvedLevel(requestedLevel, level);
         }
 
         log.warn("Growth level {} not found. Falling back to default level {}.", requestedLevel, DEFAULT_LEVEL);
-        GrowthLevel fallback = growthLevelMapper.findByLevel(DEFAULT_LEVEL);
+        GrowthLevel fallback = referenceDataCache.findGrowthLevel(DEFAULT_LEVEL);
         if (fallback == null) {
             log.error("Default growth level {} not found.", DEFAULT_LEVEL);
             throw new IllegalStateException("Default growth level not configured: " + DEFAULT_LEVEL);
@@ -414,32 +507,69 @@ public class DashboardService {
     }
 
     private AssetsData buildAssetsData(DreamHome dreamHome, LocalDate today) {
+        return buildAssetsData(dreamHome, today, CHART_WINDOW_DAYS);
+    }
+
+    private AssetsData buildAssetsData(DreamHome dreamHome, LocalDate today, int windowDays) {
         if (dreamHome == null || dreamHome.getDreamHomeId() == null) {
             return EMPTY_ASSETS;
         }
 
-        Long dreamHomeId = dreamHome.getDreamHomeId();
-        TimeWindow window = TimeWindow.from(today);
+        TimeWindow window = TimeWindow.from(today, windowDays);
+        long totalAsset = defaultIfNull(dreamHome.getCurrentSavedAmount(), 0L);
+
+        ChartSeries series = loadChartSeries(dreamHome.getDreamHomeId(), window, totalAsset > 0);
+        long windowStartBalance = series.startBalance();
+        List<ChartData> chartData = series.chartData();
+
+        long growthAmount = totalAsset - windowStartBalance;
+        double growthRate = windowStartBalance > 0
+                ? Math.round((growthAmount * 1000.0) / windowStartBalance) / 10.0
+                : 0.0;
+
+        return new AssetsData(totalAsset, growthAmount, growthRate, chartData);
+    }
+
+    /**
+     * 차트 시작 잔액 + 일별 잔액
+     * <p>
+     * 일별 잔액 롤업을 우선 사용하고, 비활성화되었거나 아직 백필되지 않은 드림홈은 저축 내역으로 계산합니다.
+     */
+    private ChartSeries loadChartSeries(Long dreamHomeId, TimeWindow window, boolean hasSavings) {
+        if (savingsDailyBalanceService.isReadEnabled()) {
+            BalanceWindow balances = savingsDailyBalanceService.findWindow(
+                    dreamHomeId, window.windowStart(), window.windowEnd(), hasSavings);
+            if (balances != null) {
+                return new ChartSeries(
+                        balances.openingBalance(),
+                        buildChartData(window.windowStart(), window.windowEnd(), balances)
+                );
+            }
+            log.debug("Savings daily balance not backfilled for dreamHome {}. Using savings history.", dreamHomeId);
+        }
 
         long windowStartBalance = defaultIfNull(
                 savingsHistoryMapper.sumBeforeDate(dreamHomeId, window.windowStartDateTime()),
                 0L
         );
-
         List<SavingsHistory> transactions = defaultIfNull(
                 savingsHistoryMapper.findByDreamHomeIdAndDateRange(dreamHomeId, window.windowStartDateTime(), window.windowEndDateTime()),
                 List.of()
         );
+        return new ChartSeries(
+                windowStartBalance,
+                buildChartData(window.windowStart(), window.windowEnd(), windowStartBalance, transactions)
+        );
+    }
 
-        List<ChartData> chartData = buildChartData(window.windowStart(), window.windowEnd(), windowStartBalance, transactions);
-
-        long totalAsset = defaultIfNull(dreamHome.getCurrentSavedAmount(), 0L);
-        long growthAmount = totalAsset - windowStartBalance;
-        double growthRate = windowStartBalance > 0
-                ? Math.round((growthAmount * 1000.0) / windowStartBalance) / 10.0
-                : 0.0;
-
-        return new AssetsData(totalAsset, growthAmount, growthRate, chartData);
+    private List<ChartData> buildChartData(LocalDate windowStart, LocalDate windowEnd, BalanceWindow balances) {
+        List<ChartData> result = new ArrayList<>();
+        long balance = balances.openingBalance();
+        for (LocalDate date = windowStart; !date.isAfter(windowEnd); date = date.plusDays(1)) {
+            balance = balances.closingByDate().getOrDefault(date, balance);
+            result.add(new ChartData(date.format(DATE_FORMATTER), balance));
+        }
+        return result;
     }
 
     private List<ChartData> buildChartData(LocalDate windowStart, LocalDate windowEnd, long startBalance, List<SavingsHistory> transactions) {
@@ -501,9 +631,11 @@ public class DashboardService {
 
     private record ResolvedLevel(int level, GrowthLevel growthLevel) {}
 
+    private record ChartSeries(long startBalance, List<ChartData> chartData) {}
+
     private record TimeWindow(LocalDate windowStart, LocalDate windowEnd, LocalDateTime windowStartDateTime, LocalDateTime windowEndDateTime) {
-        private static TimeWindow from(LocalDate todayKst) {
-            LocalDate start = todayKst.minusDays(CHART_WINDOW_DAYS - 1);
+        private static TimeWindow from(LocalDate todayKst, int windowDays) {
+            LocalDate start = todayKst.minusDays(windowDays - 1);
             return new TimeWindow(start, todayKst, startOfDayKst(start), endOfDayKst(todayKst));
         }
     }
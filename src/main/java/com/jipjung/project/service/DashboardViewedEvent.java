@@ -0,0 +1,14 @@
+package com.jipjung.project.service;
+
+/**
+ * 대시보드 조회 이벤트
+ * <p>
+ * 대시보드 조회는 읽기 전용으로 처리하고, 조회에 따른 쓰기 작업
+ * (XP 완료 보정, 접속 스트릭 참여, 오래된 DSR 캐시 무효화)은
+ * {@link DashboardViewedEventListener}가 응답 이후 비동기로 처리한다.
+ *
+ * @param userId          사용자 ID
+ * @param staleDsrCache   PRO 이력 없이 남아 있는 DSR 캐시를 무효화해야 하는지 여부
+ */
+public record DashboardViewedEvent(Long userId, boolean staleDsrCache) {
+}
@@ -0,0 +1,58 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.ActivityType;
+import com.jipjung.project.repository.UserMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 대시보드 조회 후속 처리
+ * <p>
+ * 조회 트랜잭션이 끝난 뒤 dashboardEventExecutor에서 실행된다.
+ * 각 작업은 자체 트랜잭션으로 처리하며, 실패해도 다른 작업과 대시보드 응답에 영향을 주지 않는다.
+ * <ol>
+ *   <li>XP 기준 목표 완료 보정 (완료 시 컬렉션 자동 등록)</li>
+ *   <li>대시보드 접속 스트릭 참여 (1일 1회)</li>
+ *   <li>PRO 이력 없이 남은 DSR 캐시 무효화</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardViewedEventListener {
+
+    private final CollectionService collectionService;
+    private final StreakService streakService;
+    private final UserMapper userMapper;
+
+    @Async("dashboardEventExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDashboardViewed(DashboardViewedEvent event) {
+        Long userId = event.userId();
+
+        try {
+            collectionService.checkAndUpdateCompletionByExp(userId);
+        } catch (Exception e) {
+            log.warn("Dashboard completion check failed for userId: {}", userId, e);
+        }
+
+        try {
+            streakService.participate(userId, ActivityType.DASHBOARD);
+        } catch (Exception e) {
+            log.warn("Dashboard streak participation failed for userId: {}", userId, e);
+        }
+
+        if (event.staleDsrCache()) {
+            try {
+                int updated = userMapper.invalidateDsrCache(userId);
+                log.info("Invalidated stale DSR cache for user {} (rows={})", userId, updated);
+            } catch (DataAccessException e) {
+                log.warn("Failed to invalidate DSR cache for user {}.", userId, e);
+            }
+        }
+    }
+}
@@ -32,11 +32,12 @@ public class DreamHomeService {
     private final DreamHomeMapper dreamHomeMapper;
     private final SavingsHistoryMapper savingsHistoryMapper;
     private final ApartmentMapper apartmentMapper;
+    private final ApartmentDealMapper apartmentDealMapper;
     private final UserMapper userMapper;
-    private final GrowthLevelMapper growthLevelMapper;
-    private final HouseThemeMapper houseThemeMapper;
+    private final ReferenceDataCache referenceDataCache;
     private final StreakService streakService;
     private final CollectionService collectionService;
+    private final SavingsDailyBalanceService savingsDailyBalanceService;
 
     // EXP 정책은 ExpPolicy로 통합 관리합니다.
 
@@ -96,8 +97,11 @@ public class DreamHomeService {
 
         saveSavingsHistory(dreamHome.getDreamHomeId(), request);
         long newSavedAmount = updateSavedAmount(dreamHome, request);
+        savingsDailyBalanceService.recordDailyNet(
+                dreamHome.getDreamHomeId(), calculateSignedAmount(request.saveType(), request.amount()));
 
         ExpLevelResult expResult = processExpAndLevel(userId, request);
+        collectionService.recordExpEvent(userId, dreamHome, expResult.expChange());
 
         // 입금(DEPOSIT) 시에만 스트릭 자동 참여
         StreakService.StreakResult streakResult = null;
@@ -116,7 +120,7 @@ public class DreamHomeService {
     // =========================================================================
 
     private Apartment findApartmentOrThrow(String aptSeq) {
-        return apartmentMapper.findByAptSeqWithDeals(aptSeq)
+        return apartmentMapper.findByAptSeq(aptSeq)
                 .orElseThrow(() -> new ResourceNotFoundException(ErrorCode.APARTMENT_NOT_FOUND));
     }
 
@@ -215,6 +219,7 @@ public class DreamHomeService {
     private DreamHome createNewDreamHome(Long userId, DreamHomeSetRequest request, long targetAmount) {
         DreamHome newDreamHome = buildNewDreamHome(userId, request, targetAmount);
         dreamHomeMapper.insert(newDreamHome);
+        collectionService.initializeProgress(newDreamHome);
         log.info("Dream home created. dreamHomeId: {}, aptSeq: {}", newDreamHome.getDreamHomeId(), request.getAptSeq());
         return newDreamHome;
     }
@@ -251,7 +256,7 @@ public class DreamHomeService {
      * @throws BusinessException 테마가 존재하지 않거나 비활성 상태인 경우
      */
     private void validateAndSaveTheme(Long userId, Integer themeId) {
-        HouseTheme theme = houseThemeMapper.findById(themeId);
+        HouseTheme theme = referenceDataCache.findTheme(themeId);
 
         if (theme == null) {
             throw new BusinessException(ErrorCode.THEME_NOT_FOUND,
@@ -315,7 +320,7 @@ public class DreamHomeService {
         boolean isLevelUp = applyLevelUpIfNeeded(userId, oldLevel, newLevel);
 
         User updatedUser = userMapper.findById(userId);
-        GrowthLevel growthLevel = growthLevelMapper.findByLevel(nullToDefault(updatedUser.getCurrentLevel(), 1));
+        GrowthLevel growthLevel = referenceDataCache.findGrowthLevel(nullToDefault(updatedUser.getCurrentLevel(), 1));
 
         return new ExpLevelResult(expChange, updatedUser, growthLevel, isLevelUp);
     }
@@ -387,10 +392,10 @@ public class DreamHomeService {
     }
 
     private Long resolveLatestDealPrice(Apartment apartment) {
-        if (apartment == null || apartment.getDeals() == null || apartment.getDeals().isEmpty()) {
+        if (apartment == null) {
             return null;
         }
-        Long dealAmountNum = apartment.getDeals().get(0).getDealAmountNum();
+        Long dealAmountNum = apartmentDealMapper.findLatestDealAmountNumByAptSeq(apartment.getAptSeq());
         return dealAmountNum != null ? dealAmountNum * 10_000 : null;
     }
 
@@ -8,18 +8,25 @@ import com.jipjung.project.controller.dto.response.DsrSimulationResponse.GameUpd
 import com.jipjung.project.domain.DreamHome;
 import com.jipjung.project.domain.DsrCalculationHistory;
 import com.jipjung.project.domain.User;
+import com.jipjung.project.domain.UserDsrSnapshot;
 import com.jipjung.project.dsr.*;
 import com.jipjung.project.global.exception.ErrorCode;
 import com.jipjung.project.global.exception.ResourceNotFoundException;
 import com.jipjung.project.repository.DreamHomeMapper;
 import com.jipjung.project.repository.DsrHistoryMapper;
+import com.jipjung.project.repository.UserDsrSnapshotMapper;
 import com.jipjung.project.repository.UserMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * DSR 서비스
@@ -43,7 +50,14 @@ public class DsrService {
     private final UserMapper userMapper;
     private final DreamHomeMapper dreamHomeMapper;
     private final DsrHistoryMapper dsrHistoryMapper;
+    private final UserDsrSnapshotMapper userDsrSnapshotMapper;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    /** 스냅샷이 없을 때 PRO 이력 JSON으로 복원할지 여부 (이관 완료 후 false) */
+    @Value("${dsr.snapshot.history-fallback-enabled:true}")
+    private boolean historyFallbackEnabled;
 
     // =========================================================================
     // Public Methods
@@ -126,8 +140,10 @@ public class DsrService {
         // 5. 경험치 반영
         applyExperience(userId, gameUpdate);
 
-        // 6. 이력 저장
-        saveHistory(userId, simulation.input(), simulation.result(), "PRO");
+        // 6. 이력 + 최신 PRO 스냅샷 저장
+        Long historyId = saveHistory(userId, simulation.input(), simulation.result(), "PRO");
+        userDsrSnapshotMapper.upsert(toProSnapshot(
+                userId, historyId, simulation.input(), simulation.result(), LocalDateTime.now(clock)));
 
         // 7. 응답 생성
         log.info("DSR simulation completed. userId: {}, grade: {}, maxLoan: {}, reducedGap: {}, exp: {}",
@@ -144,10 +160,118 @@ public class DsrService {
         );
     }
 
+    /**
+     * 최신 PRO DSR 스냅샷 조회 (대시보드용)
+     * <p>
+     * 스냅샷이 아직 없는 사용자(이관 전)는 설정에 따라 최신 PRO 이력 JSON에서 복원한다 (저장하지 않음).
+     *
+     * @param userId 사용자 ID
+     * @return PRO 스냅샷, PRO 결과가 없거나 복원에 실패하면 null
+     */
+    public UserDsrSnapshot findProSnapshot(Long userId) {
+        UserDsrSnapshot snapshot = userDsrSnapshotMapper.findByUserId(userId);
+        if (snapshot != null || !historyFallbackEnabled) {
+            return snapshot;
+        }
+        DsrCalculationHistory latestPro = dsrHistoryMapper.findLatestProByUserId(userId);
+        if (latestPro == null) {
+            return null;
+        }
+        try {
+            return parseProSnapshot(latestPro);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to parse PRO DSR history. Falling back to LITE. userId: {}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * PRO 이력 → 스냅샷 일괄 이관
+     * <p>
+     * PRO 이력은 있지만 스냅샷이 없는 사용자를 대상으로 최신 PRO 이력을 파싱해 저장한다.
+     * 사용자 행을 잠근 뒤 다시 확인하므로 동시에 실행된 시뮬레이션 결과를 덮어쓰지 않는다.
+     * 사용자 단위로 커밋되므로 중간에 실패해도 처리된 건은 유지된다.
+     *
+     * @param batchSize 한 번에 조회할 사용자 수
+     * @return 이관/실패 건수
+     */
+    public SnapshotMigrationResult migrateProSnapshots(int batchSize) {
+        int safeBatchSize = Math.max(1, batchSize);
+        int migrated = 0;
+        int failed = 0;
+        long afterId = 0L;
+
+        List<Long> userIds;
+        do {
+            userIds = userDsrSnapshotMapper.findUserIdsWithoutSnapshot(afterId, safeBatchSize);
+            for (Long userId : userIds) {
+                afterId = userId;
+                try {
+                    if (Boolean.TRUE.equals(transactionTemplate.execute(status -> migrateProSnapshot(userId)))) {
+                        migrated++;
+                    }
+                } catch (Exception e) {
+                    failed++;
+                    log.warn("[DsrSnapshot] 이관 실패 userId={}: {}", userId, e.getMessage());
+                }
+            }
+        } while (userIds.size() == safeBatchSize);
+
+        log.info("[DsrSnapshot] 이관 완료: migrated={}, failed={}", migrated, failed);
+        return new SnapshotMigrationResult(migrated, failed);
+    }
+
     // =========================================================================
     // Private Helper Methods
     // =========================================================================
 
+    /**
+     * @return 스냅샷을 저장했으면 true
+     */
+    private boolean migrateProSnapshot(Long userId) {
+        if (userMapper.findByIdForUpdate(userId) == null
+                || userDsrSnapshotMapper.findByUserId(userId) != null) {
+            return false;
+        }
+        DsrCalculationHistory latestPro = dsrHistoryMapper.findLatestProByUserId(userId);
+        if (latestPro == null) {
+            return false;
+        }
+        try {
+            userDsrSnapshotMapper.upsert(parseProSnapshot(latestPro));
+            return true;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to parse PRO DSR history: " + latestPro.getId(), e);
+        }
+    }
+
+    private UserDsrSnapshot parseProSnapshot(DsrCalculationHistory history) throws JsonProcessingException {
+        DsrResult result = objectMapper.readValue(history.getResultJson(), DsrResult.class);
+        DsrInput input = objectMapper.readValue(history.getInputJson(), DsrInput.class);
+        return toProSnapshot(history.getUserId(), history.getId(), input, result, history.getCreatedAt());
+    }
+
+    /**
+     * PRO 시뮬레이션 입력/결과 → 스냅샷 (인정소득은 시뮬레이션 시점 나이 기준 청년 우대 반영)
+     */
+    private static UserDsrSnapshot toProSnapshot(
+            Long userId, Long historyId, DsrInput input, DsrResult result, LocalDateTime simulatedAt) {
+        DsrPolicy policy = DsrPolicy.bankDefault2025H2();
+        long recognizedAnnualIncome = Math.round(input.annualIncome() * policy.getYouthIncomeMultiplier(input.age()));
+        return UserDsrSnapshot.builder()
+                .userId(userId)
+                .historyId(historyId)
+                .grade(result.grade())
+                .currentDsrPercent(result.currentDsrPercent())
+                .dsrAfterMaxLoanPercent(result.dsrAfterMaxLoanPercent())
+                .maxLoanAmount(result.maxLoanAmount())
+                .annualIncome(input.annualIncome())
+                .ageAtSimulation(input.age())
+                .recognizedAnnualIncome(recognizedAnnualIncome)
+                .simulatedAt(simulatedAt)
+                .build();
+    }
+
     private User findUserOrThrow(Long userId) {
         User user = userMapper.findById(userId);
         if (user == null) {
@@ -315,8 +439,10 @@ public class DsrService {
 
     /**
      * DSR 계산 이력 저장
+     *
+     * @return 저장된 이력 ID (직렬화 실패 시 null)
      */
-    private void saveHistory(Long userId, DsrInput input, DsrResult result, String dsrMode) {
+    private Long saveHistory(Long userId, DsrInput input, DsrResult result, String dsrMode) {
         try {
             DsrCalculationHistory history = DsrCalculationHistory.builder()
                     .userId(userId)
@@ -326,9 +452,11 @@ public class DsrService {
                     .maxLoanAmount(result.maxLoanAmount())
                     .build();
             dsrHistoryMapper.insert(history);
+            return history.getId();
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize DSR history. userId: {}", userId, e);
             // 이력 저장 실패는 핵심 로직에 영향 없이 로깅만
+            return null;
         }
     }
 
@@ -341,6 +469,8 @@ public class DsrService {
             long existingAnnualDebt
     ) {}
 
+    public record SnapshotMigrationResult(int migrated, int failed) {}
+
     private long toMonthlyAmount(long annualAmount) {
         return Math.round(annualAmount / 12.0);
     }
@@ -0,0 +1,34 @@
+package com.jipjung.project.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목표 XP 진행 원장 검증 스케줄러 (이벤트 리플레이와 비교 후 보정)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "collection.progress-verify-enabled", havingValue = "true")
+public class GoalProgressVerifyScheduler {
+
+    private final CollectionService collectionService;
+
+    @Value("${collection.progress-verify-batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(cron = "${collection.progress-verify-cron:0 30 4 * * *}")
+    public void verifyProgress() {
+        try {
+            CollectionService.ProgressVerifyResult result = collectionService.verifyActiveProgress(batchSize);
+            log.info("[GoalProgress] Scheduler verify completed: checked={}, repaired={}",
+                    result.checked(), result.repaired());
+        } catch (Exception e) {
+            log.warn("[GoalProgress] Scheduler verify failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.jipjung.project.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jipjung.project.controller.dto.response.JourneyResponse;
+import com.jipjung.project.domain.CollectionJourneySnapshot;
+import com.jipjung.project.global.exception.BusinessException;
+import com.jipjung.project.global.exception.ErrorCode;
+import com.jipjung.project.repository.CollectionJourneySnapshotMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * 완성된 컬렉션 여정 스냅샷 서비스
+ * <p>
+ * user_collection이 생성된 뒤 여정(이벤트/Phase)은 바뀌지 않는다.
+ * 첫 조회 시 {@link CollectionService#getJourney}로 만든 응답을 직렬화해 저장하고,
+ * 이후 조회는 스냅샷 한 행으로 응답한다 (드림홈 재조회/이벤트 리플레이 없음).
+ * <ul>
+ *   <li>JourneyResponse 형식이 바뀌면 {@link #SCHEMA_VERSION}을 올린다 - 이전 버전 스냅샷은 다음 조회 시 재생성</li>
+ *   <li>ETag는 payload 해시로 만들어 If-None-Match 재검증에 사용한다</li>
+ * </ul>
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JourneySnapshotService {
+
+    /** JourneyResponse 직렬화 형식 버전 */
+    static final int SCHEMA_VERSION = 1;
+
+    private static final int ETAG_HASH_LENGTH = 32;
+
+    private final CollectionJourneySnapshotMapper snapshotMapper;
+    private final CollectionService collectionService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 완성된 컬렉션 여정 스냅샷 조회 (없거나 버전이 다르면 생성)
+     *
+     * @param userId       로그인 사용자 ID
+     * @param collectionId 컬렉션 ID
+     * @return 여정 스냅샷 (ETag + 직렬화된 응답)
+     * @throws BusinessException 컬렉션 미존재, 접근 권한 없음, 여정 정보 없음
+     */
+    @Transactional
+    public JourneySnapshot getSnapshot(Long userId, Long collectionId) {
+        CollectionJourneySnapshot stored = snapshotMapper.findByCollectionId(collectionId);
+        if (stored != null && Objects.equals(stored.getSchemaVersion(), SCHEMA_VERSION)) {
+            if (!Objects.equals(stored.getUserId(), userId)) {
+                throw new BusinessException(ErrorCode.COLLECTION_ACCESS_DENIED);
+            }
+            return new JourneySnapshot(stored.getEtag(), stored.getPayloadJson(), null);
+        }
+
+        // 소유권/여정 가능 여부 검증은 getJourney가 담당
+        JourneyResponse journey = collectionService.getJourney(userId, collectionId);
+        String payload = serialize(journey);
+        String etag = buildEtag(payload);
+
+        try {
+            snapshotMapper.upsert(CollectionJourneySnapshot.builder()
+                    .collectionId(collectionId)
+                    .userId(userId)
+                    .schemaVersion(SCHEMA_VERSION)
+                    .payloadJson(payload)
+                    .etag(etag)
+                    .build());
+            log.info("[JourneySnapshot] 생성: collectionId={}, version={}, bytes={}",
+                    collectionId, SCHEMA_VERSION, payload.length());
+        } catch (DataAccessException e) {
+            // 저장 실패 시에도 이번 응답은 그대로 반환 (다음 조회에서 재시도)
+            log.warn("[JourneySnapshot] 저장 실패: collectionId={}, error={}", collectionId, e.getMessage());
+        }
+
+        return new JourneySnapshot(etag, payload, journey);
+    }
+
+    /**
+     * 스냅샷의 여정 응답 (방금 생성한 경우 역직렬화 생략)
+     */
+    public JourneyResponse readJourney(JourneySnapshot snapshot) {
+        if (snapshot.journey() != null) {
+            return snapshot.journey();
+        }
+        try {
+            return objectMapper.readValue(snapshot.payloadJson(), JourneyResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to read journey snapshot", e);
+        }
+    }
+
+    private String serialize(JourneyResponse journey) {
+        try {
+            return objectMapper.writeValueAsString(journey);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize journey snapshot", e);
+        }
+    }
+
+    private static String buildEtag(String payload) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String hash = HexFormat.of().formatHex(digest.digest(payload.getBytes(StandardCharsets.UTF_8)));
+            return "\"j" + SCHEMA_VERSION + "-" + hash.substring(0, ETAG_HASH_LENGTH) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * 여정 스냅샷
+     *
+     * @param etag        따옴표를 포함한 ETag
+     * @param payloadJson 직렬화된 JourneyResponse
+     * @param journey     이번 요청에서 생성한 경우의 응답 객체 (저장본에서 읽은 경우 null)
+     */
+    public record JourneySnapshot(String etag, String payloadJson, JourneyResponse journey) {}
+}
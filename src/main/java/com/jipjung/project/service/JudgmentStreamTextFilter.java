@@ -0,0 +1,133 @@
+package com.jipjung.project.service;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 판결 스트리밍 텍스트 필터
+ * <p>
+ * 모델은 판결을 JSON 한 덩어리로 생성하므로 조각을 그대로 넘기면 클라이언트에 중괄호·키가 노출된다.
+ * 조각 경계와 무관하게 JSON을 한 글자씩 추적해 지정한 필드(comment, script)의 문자열 값만
+ * 이스케이프를 풀어 전달한다. 전체 응답 파싱은 호출 측이 누적한 원본 버퍼로 따로 수행한다.
+ * <p>
+ * 스트림 하나당 인스턴스 하나를 사용한다 (스레드 안전하지 않음).
+ */
+final class JudgmentStreamTextFilter {
+
+    private static final Set<String> STREAMED_FIELDS = Set.of("comment", "script");
+    private static final String FIELD_SEPARATOR = "\n";
+
+    private final Consumer<String> downstream;
+
+    private boolean inString;
+    private boolean escape;
+    private int unicodeRemaining;
+    private int unicodeValue;
+    private boolean expectKey;
+    private boolean currentIsKey;
+    private boolean streamingValue;
+    private boolean emittedAny;
+    private String lastKey;
+    private final StringBuilder keyBuffer = new StringBuilder();
+
+    JudgmentStreamTextFilter(Consumer<String> downstream) {
+        this.downstream = downstream;
+    }
+
+    /**
+     * 원본 조각 하나를 소비하고, 스트리밍 대상 필드의 디코딩된 텍스트가 있으면 전달
+     */
+    void accept(String chunk) {
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < chunk.length(); i++) {
+            char c = chunk.charAt(i);
+            if (inString) {
+                consumeStringChar(c, out);
+            } else {
+                consumeStructuralChar(c, out);
+            }
+        }
+        if (!out.isEmpty()) {
+            downstream.accept(out.toString());
+        }
+    }
+
+    private void consumeStructuralChar(char c, StringBuilder out) {
+        switch (c) {
+            case '{', ',' -> expectKey = true;
+            case ':' -> expectKey = false;
+            case '"' -> startString(out);
+            default -> {
+                // 코드 펜스, 공백, 숫자 등은 무시
+            }
+        }
+    }
+
+    private void startString(StringBuilder out) {
+        inString = true;
+        currentIsKey = expectKey;
+        if (currentIsKey) {
+            keyBuffer.setLength(0);
+            return;
+        }
+        streamingValue = lastKey != null && STREAMED_FIELDS.contains(lastKey);
+        if (streamingValue && emittedAny) {
+            out.append(FIELD_SEPARATOR);
+        }
+    }
+
+    private void consumeStringChar(char c, StringBuilder out) {
+        if (unicodeRemaining > 0) {
+            unicodeValue = (unicodeValue << 4) | Character.digit(c, 16);
+            if (--unicodeRemaining == 0) {
+                appendDecoded((char) unicodeValue, out);
+            }
+            return;
+        }
+        if (escape) {
+            escape = false;
+            switch (c) {
+                case 'n' -> appendDecoded('\n', out);
+                case 't' -> appendDecoded('\t', out);
+                case 'r' -> appendDecoded('\r', out);
+                case 'b' -> appendDecoded('\b', out);
+                case 'f' -> appendDecoded('\f', out);
+                case 'u' -> {
+                    unicodeRemaining = 4;
+                    unicodeValue = 0;
+                }
+                default -> appendDecoded(c, out);
+            }
+            return;
+        }
+        if (c == '\\') {
+            escape = true;
+            return;
+        }
+        if (c == '"') {
+            endString();
+            return;
+        }
+        appendDecoded(c, out);
+    }
+
+    private void endString() {
+        inString = false;
+        if (currentIsKey) {
+            lastKey = keyBuffer.toString();
+            expectKey = false;
+        } else {
+            lastKey = null;
+            streamingValue = false;
+        }
+    }
+
+    private void appendDecoded(char c, StringBuilder out) {
+        if (currentIsKey) {
+            keyBuffer.append(c);
+        } else if (streamingValue) {
+            out.append(c);
+            emittedAny = true;
+        }
+    }
+}
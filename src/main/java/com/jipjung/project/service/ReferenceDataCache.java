@@ -0,0 +1,396 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.GrowthLevel;
+import com.jipjung.project.domain.HouseTheme;
+import com.jipjung.project.repository.DongcodeMapper;
+import com.jipjung.project.repository.GrowthLevelMapper;
+import com.jipjung.project.repository.HouseThemeMapper;
+import com.jipjung.project.repository.dto.DongcodeRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 참조 데이터 인메모리 캐시 (growth_level / house_theme / dongcode)
+ * <p>
+ * 요청마다 반복되던 레벨/테마/법정동코드 단건 조회를 불변 스냅샷 조회로 대체한다.
+ * <ul>
+ *   <li>시작 시 전체 적재, 이후 스케줄러 또는 관리자 API로 통째로 재적재 (스냅샷 교체)</li>
+ *   <li>내용이 바뀐 경우에만 버전을 올린다</li>
+ *   <li>/api/themes ETag는 활성 테마 내용 지문으로 만든다 - 재시작·인스턴스와 무관하게 같은 내용이면 같은 값</li>
+ *   <li>조회 결과를 reference.cache.requests{cache, result=hit|miss}로 기록</li>
+ * </ul>
+ * 스냅샷이 아직 없거나(시작 직후, 적재 실패) 비활성화된 경우 기존 Mapper 조회로 폴백한다 (miss).
+ * 반환하는 도메인 객체는 여러 요청이 공유하므로 수정하지 않는다.
+ * <p>
+ * 설정: reference-data.cache.enabled / refresh-enabled / refresh-cron
+ */
+@Component
+@Slf4j
+public class ReferenceDataCache {
+
+    private static final String METRIC_REQUESTS = "reference.cache.requests";
+    private static final String KEY_SEPARATOR = "|";
+    private static final int SGG_CD_LENGTH = 5;
+
+    private final GrowthLevelMapper growthLevelMapper;
+    private final HouseThemeMapper houseThemeMapper;
+    private final DongcodeMapper dongcodeMapper;
+    private final boolean enabled;
+
+    private final Counter growthLevelHits;
+    private final Counter growthLevelMisses;
+    private final Counter themeHits;
+    private final Counter themeMisses;
+    private final Counter dongcodeHits;
+    private final Counter dongcodeMisses;
+
+    private final AtomicLong version = new AtomicLong(0);
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataCache(
+            GrowthLevelMapper growthLevelMapper,
+            HouseThemeMapper houseThemeMapper,
+            DongcodeMapper dongcodeMapper,
+            MeterRegistry meterRegistry,
+            @Value("${reference-data.cache.enabled:true}") boolean enabled
+    ) {
+        this.growthLevelMapper = growthLevelMapper;
+        this.houseThemeMapper = houseThemeMapper;
+        this.dongcodeMapper = dongcodeMapper;
+        this.enabled = enabled;
+        this.growthLevelHits = requestCounter(meterRegistry, "growth_level", "hit");
+        this.growthLevelMisses = requestCounter(meterRegistry, "growth_level", "miss");
+        this.themeHits = requestCounter(meterRegistry, "house_theme", "hit");
+        this.themeMisses = requestCounter(meterRegistry, "house_theme", "miss");
+        this.dongcodeHits = requestCounter(meterRegistry, "dongcode", "hit");
+        this.dongcodeMisses = requestCounter(meterRegistry, "dongcode", "miss");
+        Gauge.builder("reference.cache.version", version, AtomicLong::get).register(meterRegistry);
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String cache, String result) {
+        return Counter.builder(METRIC_REQUESTS)
+                .tag("cache", cache)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 전체 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("[ReferenceCache] 비활성화됨");
+            return;
+        }
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("[ReferenceCache] 시작 적재 실패 - Mapper 조회로 폴백: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 참조 데이터 재적재
+     * <p>
+     * 새 스냅샷을 모두 만든 뒤 한 번에 교체한다 (적재 중에도 이전 스냅샷으로 응답).
+     * 실패 시 예외를 던지고 기존 스냅샷을 유지한다.
+     *
+     * @return 적재 결과 (버전, 건수, 변경 여부)
+     */
+    public synchronized RefreshResult refresh() {
+        if (!enabled) {
+            return new RefreshResult(version.get(), 0, 0, 0, false);
+        }
+        long startedAt = System.currentTimeMillis();
+        List<GrowthLevel> levels = growthLevelMapper.findAll();
+        List<HouseTheme> themes = houseThemeMapper.findAll();
+        List<DongcodeRow> dongcodes = dongcodeMapper.findAll();
+
+        Snapshot current = snapshot;
+        long fingerprint = fingerprint(levels, themes, dongcodes);
+        boolean changed = current == null || current.fingerprint() != fingerprint;
+        long nextVersion = changed ? version.incrementAndGet() : version.get();
+        snapshot = Snapshot.of(nextVersion, fingerprint, levels, themes, dongcodes);
+
+        log.info("[ReferenceCache] 적재 완료: version={}, changed={}, levels={}, themes={}, dongcodes={}, elapsedMs={}",
+                nextVersion, changed, levels.size(), themes.size(), dongcodes.size(),
+                System.currentTimeMillis() - startedAt);
+        return new RefreshResult(nextVersion, levels.size(), themes.size(), dongcodes.size(), changed);
+    }
+
+    /**
+     * 현재 스냅샷 버전 (미적재 시 0)
+     */
+    public long version() {
+        return version.get();
+    }
+
+    // =========================================================================
+    // growth_level
+    // =========================================================================
+
+    /**
+     * 레벨 단건 조회 (GrowthLevelMapper.findByLevel)
+     */
+    public GrowthLevel findGrowthLevel(int level) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            growthLevelMisses.increment();
+            return growthLevelMapper.findByLevel(level);
+        }
+        growthLevelHits.increment();
+        return current.levelsByLevel().get(level);
+    }
+
+    /**
+     * 총 레벨 수 (GrowthLevelMapper.countAll)
+     */
+    public int countGrowthLevels() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            growthLevelMisses.increment();
+            return growthLevelMapper.countAll();
+        }
+        growthLevelHits.increment();
+        return current.levelsByLevel().size();
+    }
+
+    // =========================================================================
+    // house_theme
+    // =========================================================================
+
+    /**
+     * 테마 단건 조회 - 비활성 테마 포함 (HouseThemeMapper.findById)
+     */
+    public HouseTheme findTheme(Integer themeId) {
+        if (themeId == null) {
+            return null;
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            themeMisses.increment();
+            return houseThemeMapper.findById(themeId);
+        }
+        themeHits.increment();
+        return current.themesById().get(themeId);
+    }
+
+    /**
+     * 활성 테마 목록과 내용 기반 ETag (HouseThemeMapper.findAllActive)
+     * <p>
+     * 스냅샷이 없으면 ETag 없이 Mapper 결과를 반환한다.
+     */
+    public ActiveThemes findActiveThemes() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            themeMisses.increment();
+            return new ActiveThemes(houseThemeMapper.findAllActive(), null);
+        }
+        themeHits.increment();
+        return new ActiveThemes(current.activeThemes(), current.themesEtag());
+    }
+
+    // =========================================================================
+    // dongcode
+    // =========================================================================
+
+    /**
+     * 시도 + 구군 기준 시군구코드 (DongcodeMapper.findLawdCdByRegion)
+     */
+    public String findLawdCdByRegion(String sido, String sigungu) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            dongcodeMisses.increment();
+            return dongcodeMapper.findLawdCdByRegion(sido, sigungu);
+        }
+        dongcodeHits.increment();
+        return current.lawdCdByRegion().get(key(sido, sigungu));
+    }
+
+    /**
+     * 구군 기준 시군구코드 (DongcodeMapper.findLawdCdBySigungu)
+     */
+    public String findLawdCdBySigungu(String sigungu) {
+        if (sigungu == null) {
+            return null;
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            dongcodeMisses.increment();
+            return dongcodeMapper.findLawdCdBySigungu(sigungu);
+        }
+        dongcodeHits.increment();
+        return current.lawdCdBySigungu().get(sigungu);
+    }
+
+    /**
+     * 시군구코드 + 읍면동명 기준 법정동코드 (DongcodeMapper.findDongCodeBySggCdAndUmdNm)
+     */
+    public String findDongCode(String sggCd, String umdNm) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            dongcodeMisses.increment();
+            return dongcodeMapper.findDongCodeBySggCdAndUmdNm(sggCd, umdNm);
+        }
+        dongcodeHits.increment();
+        DongcodeRow row = current.dongByUmd().get(key(sggCd, umdNm));
+        return row != null ? row.dongCode() : null;
+    }
+
+    /**
+     * 시군구코드 + 읍면동명 기준 지역 prefix (DongcodeMapper.findRegionPrefixBySggCdAndUmdNm)
+     */
+    public String findRegionPrefix(String sggCd, String umdNm) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            dongcodeMisses.increment();
+            return dongcodeMapper.findRegionPrefixBySggCdAndUmdNm(sggCd, umdNm);
+        }
+        dongcodeHits.increment();
+        return regionPrefix(current.dongByUmd().get(key(sggCd, umdNm)));
+    }
+
+    /**
+     * 시군구코드 기준 지역 prefix (DongcodeMapper.findRegionPrefixBySggCd)
+     */
+    public String findRegionPrefix(String sggCd) {
+        if (sggCd == null) {
+            return null;
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            dongcodeMisses.increment();
+            return dongcodeMapper.findRegionPrefixBySggCd(sggCd);
+        }
+        dongcodeHits.increment();
+        return regionPrefix(current.firstDongBySggCd().get(sggCd));
+    }
+
+    private static String regionPrefix(DongcodeRow row) {
+        if (row == null || row.sidoName() == null || row.gugunName() == null) {
+            return null;
+        }
+        return row.sidoName() + " " + row.gugunName();
+    }
+
+    private static String key(String first, String second) {
+        return first + KEY_SEPARATOR + second;
+    }
+
+    private static String sggCd(String dongCode) {
+        if (dongCode == null || dongCode.length() < SGG_CD_LENGTH) {
+            return dongCode;
+        }
+        return dongCode.substring(0, SGG_CD_LENGTH);
+    }
+
+    /**
+     * 내용 비교용 지문 (재적재 시 버전 증가 여부 판단)
+     */
+    private static long fingerprint(List<GrowthLevel> levels, List<HouseTheme> themes, List<DongcodeRow> dongcodes) {
+        long hash = 17;
+        for (GrowthLevel level : levels) {
+            hash = 31 * hash + Objects.hash(level.getLevel(), level.getStepName(),
+                    level.getDescription(), level.getRequiredExp());
+        }
+        hash = 31 * hash + themesFingerprint(themes);
+        for (DongcodeRow row : dongcodes) {
+            hash = 31 * hash + row.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * 테마 내용 지문 (String/Integer/Boolean 해시만 사용하므로 JVM 간에도 같은 값)
+     */
+    private static long themesFingerprint(List<HouseTheme> themes) {
+        long hash = 17;
+        for (HouseTheme theme : themes) {
+            hash = 31 * hash + Objects.hash(theme.getThemeId(), theme.getThemeCode(),
+                    theme.getThemeName(), theme.getImagePath(), theme.getIsActive());
+        }
+        return hash;
+    }
+
+    /**
+     * 불변 참조 데이터 스냅샷
+     * <p>
+     * 법정동코드 인덱스는 Mapper SQL의 MIN/LIMIT 1 결과와 같도록 dong_code 오름차순 첫 행을 사용한다.
+     */
+    private record Snapshot(
+            long version,
+            long fingerprint,
+            String themesEtag,
+            Map<Integer, GrowthLevel> levelsByLevel,
+            Map<Integer, HouseTheme> themesById,
+            List<HouseTheme> activeThemes,
+            Map<String, String> lawdCdByRegion,
+            Map<String, String> lawdCdBySigungu,
+            Map<String, DongcodeRow> dongByUmd,
+            Map<String, DongcodeRow> firstDongBySggCd
+    ) {
+
+        static Snapshot of(long version, long fingerprint,
+                           List<GrowthLevel> levels, List<HouseTheme> themes, List<DongcodeRow> dongcodes) {
+            Map<Integer, GrowthLevel> levelsByLevel = new HashMap<>();
+            for (GrowthLevel level : levels) {
+                levelsByLevel.put(level.getLevel(), level);
+            }
+
+            Map<Integer, HouseTheme> themesById = new HashMap<>();
+            for (HouseTheme theme : themes) {
+                themesById.put(theme.getThemeId(), theme);
+            }
+            List<HouseTheme> activeThemes = themes.stream()
+                    .filter(theme -> Boolean.TRUE.equals(theme.getIsActive()))
+                    .toList();
+
+            // findAll은 dong_code 순 정렬 - putIfAbsent로 최솟값(첫 행)을 유지
+            Map<String, String> lawdCdByRegion = new HashMap<>();
+            Map<String, String> lawdCdBySigungu = new HashMap<>();
+            Map<String, DongcodeRow> dongByUmd = new HashMap<>();
+            Map<String, DongcodeRow> firstDongBySggCd = new HashMap<>();
+            for (DongcodeRow row : dongcodes) {
+                String sggCd = sggCd(row.dongCode());
+                lawdCdByRegion.putIfAbsent(key(row.sidoName(), row.gugunName()), sggCd);
+                lawdCdBySigungu.putIfAbsent(row.gugunName(), sggCd);
+                firstDongBySggCd.putIfAbsent(sggCd, row);
+                if (row.dongName() != null) {
+                    dongByUmd.putIfAbsent(key(sggCd, row.dongName()), row);
+                }
+            }
+
+            String themesEtag = "\"t" + Long.toHexString(themesFingerprint(activeThemes)) + "\"";
+            return new Snapshot(version, fingerprint, themesEtag,
+                    Map.copyOf(levelsByLevel), Map.copyOf(themesById), List.copyOf(activeThemes),
+                    Map.copyOf(lawdCdByRegion), Map.copyOf(lawdCdBySigungu),
+                    Map.copyOf(dongByUmd), Map.copyOf(firstDongBySggCd));
+        }
+    }
+
+    /**
+     * 활성 테마 목록
+     *
+     * @param themes 활성 테마 (theme_id 순)
+     * @param etag   따옴표를 포함한 ETag (스냅샷 미적재 시 null)
+     */
+    public record ActiveThemes(List<HouseTheme> themes, String etag) {}
+
+    /**
+     * 재적재 결과
+     */
+    public record RefreshResult(long version, int levels, int themes, int dongcodes, boolean changed) {}
+}
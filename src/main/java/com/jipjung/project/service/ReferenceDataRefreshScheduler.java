@@ -0,0 +1,30 @@
+package com.jipjung.project.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reference data cache refresh scheduler
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "reference-data.refresh-enabled", havingValue = "true")
+public class ReferenceDataRefreshScheduler {
+
+    private final ReferenceDataCache referenceDataCache;
+
+    @Scheduled(cron = "${reference-data.refresh-cron:0 0 * * * *}")
+    public void refresh() {
+        try {
+            ReferenceDataCache.RefreshResult result = referenceDataCache.refresh();
+            log.info("[ReferenceCache] Scheduler refresh completed: version={}, changed={}",
+                    result.version(), result.changed());
+        } catch (Exception e) {
+            log.warn("[ReferenceCache] Scheduler refresh failed: {}", e.getMessage());
+        }
+    }
+}
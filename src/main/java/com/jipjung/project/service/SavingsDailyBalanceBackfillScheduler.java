@@ -0,0 +1,34 @@
+package com.jipjung.project.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 저축 잔액 롤업 백필 스케줄러 (savings_history 기준 재구축)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "savings.daily-balance.backfill-enabled", havingValue = "true")
+public class SavingsDailyBalanceBackfillScheduler {
+
+    private final SavingsDailyBalanceService savingsDailyBalanceService;
+
+    @Value("${savings.daily-balance.backfill-batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(cron = "${savings.daily-balance.backfill-cron:0 0 5 * * *}")
+    public void backfill() {
+        try {
+            SavingsDailyBalanceService.BackfillResult result = savingsDailyBalanceService.backfill(batchSize);
+            log.info("[SavingsBalance] Scheduler backfill completed: dreamHomes={}, days={}",
+                    result.dreamHomes(), result.days());
+        } catch (Exception e) {
+            log.warn("[SavingsBalance] Scheduler backfill failed: {}", e.getMessage());
+        }
+    }
+}
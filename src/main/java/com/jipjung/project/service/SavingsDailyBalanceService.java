@@ -0,0 +1,188 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.SavingsDailyBalance;
+import com.jipjung.project.repository.DreamHomeMapper;
+import com.jipjung.project.repository.SavingsDailyBalanceMapper;
+import com.jipjung.project.repository.SavingsHistoryMapper;
+import com.jipjung.project.repository.dto.SavingsDailyNetRow;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 드림홈 일별 저축 잔액 롤업 서비스 (savings_daily_balance)
+ * <p>
+ * 자산 차트가 매 조회마다 savings_history 전체 합계 + 기간 내 전 거래를 읽지 않도록
+ * 일자별 마감 잔액을 유지한다.
+ * <ul>
+ *   <li>저축 기록 시 당일 행 증분 갱신 ({@link #recordDailyNet})</li>
+ *   <li>조회는 기간 시작 전 마지막 행 1건 + 기간 내 행(최대 기간 일수)만 읽는다</li>
+ *   <li>백필 잡이 savings_history 일별 집계로 드림홈 단위 재구축</li>
+ * </ul>
+ * 설정: savings.daily-balance.read-enabled / backfill-enabled / backfill-cron / backfill-batch-size
+ */
+@Service
+@Slf4j
+public class SavingsDailyBalanceService {
+
+    private final SavingsDailyBalanceMapper dailyBalanceMapper;
+    private final DreamHomeMapper dreamHomeMapper;
+    private final SavingsHistoryMapper savingsHistoryMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean readEnabled;
+
+    public SavingsDailyBalanceService(
+            SavingsDailyBalanceMapper dailyBalanceMapper,
+            DreamHomeMapper dreamHomeMapper,
+            SavingsHistoryMapper savingsHistoryMapper,
+            TransactionTemplate transactionTemplate,
+            Clock clock,
+            @Value("${savings.daily-balance.read-enabled:true}") boolean readEnabled
+    ) {
+        this.dailyBalanceMapper = dailyBalanceMapper;
+        this.dreamHomeMapper = dreamHomeMapper;
+        this.savingsHistoryMapper = savingsHistoryMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.readEnabled = readEnabled;
+    }
+
+    /**
+     * 자산 차트를 롤업으로 조회할지 여부
+     */
+    public boolean isReadEnabled() {
+        return readEnabled;
+    }
+
+    /**
+     * 저축 1건을 당일(KST) 행에 반영
+     * <p>
+     * 드림홈 잔액 UPDATE 이후 같은 트랜잭션에서 호출한다 (드림홈 행 잠금으로 같은 드림홈의 저축이 직렬화됨).
+     * 이전 일자 롤업 행이 없으면 백필 전 드림홈일 수 있으므로 0에서 시작하지 않고
+     * savings_history 기준으로 재구축한다 (방금 저장한 저축 내역도 포함됨).
+     *
+     * @param dreamHomeId  드림홈 ID
+     * @param signedAmount 입금 +, 출금 -
+     */
+    @Transactional
+    public void recordDailyNet(Long dreamHomeId, long signedAmount) {
+        LocalDate today = LocalDate.now(clock);
+        if (dailyBalanceMapper.addToDay(dreamHomeId, today, signedAmount) > 0) {
+            return;
+        }
+        SavingsDailyBalance previous = dailyBalanceMapper.findLatestBefore(dreamHomeId, today);
+        if (previous == null) {
+            rebuild(dreamHomeId);
+            return;
+        }
+        dailyBalanceMapper.insertDay(dreamHomeId, today, nullToZero(previous.getClosingBalance()), signedAmount);
+    }
+
+    /**
+     * 기간 잔액 조회
+     *
+     * @param dreamHomeId      드림홈 ID
+     * @param start            기간 시작일 (포함)
+     * @param end              기간 종료일 (포함)
+     * @param expectNonEmpty   롤업 행이 있어야 하는 드림홈인지 (현재 저축액 > 0)
+     * @return 기간 잔액, 롤업이 아직 백필되지 않은 것으로 보이면 null (원본 내역으로 폴백)
+     */
+    @Transactional(readOnly = true)
+    public BalanceWindow findWindow(Long dreamHomeId, LocalDate start, LocalDate end, boolean expectNonEmpty) {
+        SavingsDailyBalance opening = dailyBalanceMapper.findLatestBefore(dreamHomeId, start);
+        List<SavingsDailyBalance> rows = dailyBalanceMapper.findByDreamHomeIdAndDateRange(dreamHomeId, start, end);
+        if (opening == null && rows.isEmpty() && expectNonEmpty) {
+            return null;
+        }
+
+        Map<LocalDate, Long> closingByDate = new HashMap<>();
+        for (SavingsDailyBalance row : rows) {
+            closingByDate.put(row.getBalanceDate(), nullToZero(row.getClosingBalance()));
+        }
+        long openingBalance = opening != null ? nullToZero(opening.getClosingBalance()) : 0L;
+        return new BalanceWindow(openingBalance, closingByDate);
+    }
+
+    /**
+     * 드림홈 하나의 롤업을 savings_history 기준으로 재구축
+     * <p>
+     * 드림홈 행을 먼저 잠가 집계 도중 들어온 저축(addToDay)이 삭제·재기록 사이에 유실되지 않게 한다.
+     *
+     * @return 기록한 일자 수
+     */
+    @Transactional
+    public int rebuild(Long dreamHomeId) {
+        dreamHomeMapper.findByIdForUpdate(dreamHomeId);
+        List<SavingsDailyNetRow> dailyNets = savingsHistoryMapper.findDailyNetByDreamHomeId(dreamHomeId);
+        dailyBalanceMapper.deleteByDreamHomeId(dreamHomeId);
+
+        long runningBalance = 0L;
+        for (SavingsDailyNetRow dailyNet : dailyNets) {
+            long netAmount = nullToZero(dailyNet.netAmount());
+            runningBalance += netAmount;
+            dailyBalanceMapper.upsert(SavingsDailyBalance.builder()
+                    .dreamHomeId(dreamHomeId)
+                    .balanceDate(dailyNet.balanceDate())
+                    .netAmount(netAmount)
+                    .closingBalance(runningBalance)
+                    .build());
+        }
+        return dailyNets.size();
+    }
+
+    /**
+     * 전체 드림홈 롤업 백필
+     * <p>
+     * 드림홈 단위로 커밋되므로 중간에 실패해도 처리된 건은 유지된다.
+     *
+     * @param batchSize 한 번에 조회할 드림홈 수
+     * @return 처리 드림홈 수 / 기록 일자 수
+     */
+    public BackfillResult backfill(int batchSize) {
+        int safeBatchSize = Math.max(1, batchSize);
+        int dreamHomes = 0;
+        int days = 0;
+        long afterId = 0L;
+
+        List<Long> dreamHomeIds;
+        do {
+            dreamHomeIds = dailyBalanceMapper.findDreamHomeIds(afterId, safeBatchSize);
+            for (Long dreamHomeId : dreamHomeIds) {
+                afterId = dreamHomeId;
+                try {
+                    Integer rebuilt = transactionTemplate.execute(status -> rebuild(dreamHomeId));
+                    days += rebuilt != null ? rebuilt : 0;
+                    dreamHomes++;
+                } catch (Exception e) {
+                    log.warn("[SavingsBalance] 백필 실패 dreamHomeId={}: {}", dreamHomeId, e.getMessage());
+                }
+            }
+        } while (dreamHomeIds.size() == safeBatchSize);
+
+        log.info("[SavingsBalance] 백필 완료: dreamHomes={}, days={}", dreamHomes, days);
+        return new BackfillResult(dreamHomes, days);
+    }
+
+    private static long nullToZero(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    /**
+     * 기간 잔액
+     *
+     * @param openingBalance 기간 시작 전 마감 잔액
+     * @param closingByDate  저축이 있었던 날의 마감 잔액 (없는 날은 직전 잔액 유지)
+     */
+    public record BalanceWindow(long openingBalance, Map<LocalDate, Long> closingByDate) {}
+
+    public record BackfillResult(int dreamHomes, int days) {}
+}
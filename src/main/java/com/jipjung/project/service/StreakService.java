@@ -129,6 +129,7 @@ public class StreakService {
                 userId, activityType, expResult.earnedExp(), expResult.capRemaining());
 
         if (expResult.earnedExp() > 0) {
+            collectionService.recordExpEvent(userId, expResult.earnedExp());
             collectionService.checkAndUpdateCompletionByExp(userId);
         }
 
@@ -182,6 +183,7 @@ public class StreakService {
 
         // 경험치 적용 및 레벨업 체크 (마일스톤 보상은 일일 상한에 포함되지 않음)
         boolean isLevelUp = applyExpAndLevelUpIfNeeded(userId, user, expReward);
+        collectionService.recordExpEvent(userId, expReward);
 
         log.info("Milestone reward claimed: userId={}, milestone={}일, exp=+{}",
                 userId, milestoneDays, expReward);
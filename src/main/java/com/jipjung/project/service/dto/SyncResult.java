@@ -2,32 +2,37 @@ package com.jipjung.project.service.dto;
 
 /**
  * 동기화 결과 DTO
+ *
+ * @param syncedCount    신규 저장된 거래 건수
+ * @param skippedCount   저장하지 않은 전체 건수 (해제/필수값 누락/중복/저장 실패)
+ * @param duplicateCount 그중 이미 저장되어 있던 중복 거래 건수
  */
 public record SyncResult(
         String lawdCd,
         String dealYmd,
         int syncedCount,
         int skippedCount,
+        int duplicateCount,
         String message
 ) {
     /**
      * 성공 결과 생성
      */
-    public static SyncResult success(String lawdCd, String dealYmd, int syncedCount, int skippedCount) {
-        return new SyncResult(lawdCd, dealYmd, syncedCount, skippedCount, "동기화 완료");
+    public static SyncResult success(String lawdCd, String dealYmd, int syncedCount, int skippedCount, int duplicateCount) {
+        return new SyncResult(lawdCd, dealYmd, syncedCount, skippedCount, duplicateCount, "동기화 완료");
     }
 
     /**
      * 스킵 결과 생성 (이미 동기화됨)
      */
     public static SyncResult skipped(String lawdCd, String dealYmd, String reason) {
-        return new SyncResult(lawdCd, dealYmd, 0, 0, reason);
+        return new SyncResult(lawdCd, dealYmd, 0, 0, 0, reason);
     }
 
     /**
      * 에러 결과 생성
      */
     public static SyncResult error(String lawdCd, String dealYmd, String errorMessage) {
-        return new SyncResult(lawdCd, dealYmd, 0, 0, "오류: " + errorMessage);
+        return new SyncResult(lawdCd, dealYmd, 0, 0, 0, "오류: " + errorMessage);
     }
 }
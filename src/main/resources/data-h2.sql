@@ -146,6 +146,22 @@ INSERT INTO apartment_deal (apt_seq, apt_dong, floor, deal_year, deal_month, dea
 ('11545-23', ' ', '17', 2017, 12, 9, 59.82, '33,000'),
 ('27230-174', ' ', '2', 2011, 12, 28, 59.84, '11,800');
 
+-- 최신 거래 비정규화 테이블 적재 (apartment_latest_deal)
+INSERT INTO apartment_latest_deal (apt_seq, deal_no, deal_date, deal_amount_num, exclu_use_ar, floor)
+SELECT ranked.apt_seq, ranked.deal_no, ranked.deal_date, ranked.deal_amount_num, ranked.exclu_use_ar, ranked.floor
+FROM (
+    SELECT ad.apt_seq, ad.deal_no, ad.deal_date, ad.deal_amount_num, ad.exclu_use_ar, ad.floor,
+           ROW_NUMBER() OVER (PARTITION BY ad.apt_seq ORDER BY ad.deal_date DESC, ad.deal_no DESC) AS rn
+    FROM apartment_deal ad
+) ranked
+WHERE ranked.rn = 1;
+
+-- 목록 정렬 키 동기화 (apartment.latest_deal_date, 거래 없음 = 1000-01-01)
+UPDATE apartment a
+SET latest_deal_date = COALESCE(
+        (SELECT ld.deal_date FROM apartment_latest_deal ld WHERE ld.apt_seq = a.apt_seq),
+        DATE '1000-01-01');
+
 -- ============================================================================
 -- 4. growth_level 데이터 (집짓기 6단계)
 -- ============================================================================
@@ -25,8 +25,10 @@
 -- 2. Drop Tables (in reverse dependency order)
 -- ============================================================================
 
+DROP TABLE IF EXISTS dream_home_progress;
 DROP TABLE IF EXISTS favorite_apartment;
 DROP TABLE IF EXISTS user_preferred_area;
+DROP TABLE IF EXISTS apartment_latest_deal;
 DROP TABLE IF EXISTS apartment_deal;
 DROP TABLE IF EXISTS apartment;
 DROP TABLE IF EXISTS `user`;
@@ -68,6 +70,8 @@ CREATE TABLE apartment (
     build_year INT COMMENT '건축년도',
     latitude DECIMAL(16, 13) COMMENT '위도',
     longitude DECIMAL(16, 13) COMMENT '경도',
+    latest_deal_date DATE NOT NULL DEFAULT '1000-01-01' COMMENT '목록 정렬용 최신 거래일 (apartment_latest_deal과 함께 갱신, 거래 없음 = 1000-01-01)',
+    geocode_retry_at TIMESTAMP NULL COMMENT '좌표 재시도 가능 시각 (지오코딩 실패 시 설정)',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
@@ -75,7 +79,9 @@ CREATE TABLE apartment (
     INDEX idx_apt_nm (apt_nm),
     INDEX idx_dong_code (dong_code),
     INDEX idx_location (latitude, longitude),
-    INDEX idx_build_year (build_year)
+    INDEX idx_build_year (build_year),
+    INDEX idx_latest_deal_sort (latest_deal_date DESC, apt_nm, apt_seq),
+    INDEX idx_sgg_latest_deal_sort (sgg_cd, latest_deal_date DESC, apt_nm, apt_seq)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='아파트 기본정보 테이블';
 
@@ -389,6 +395,7 @@ CREATE TABLE IF NOT EXISTS ai_conversation (
     FOREIGN KEY (user_id) REFERENCES `user`(user_id) ON DELETE CASCADE
 );
 CREATE INDEX IF NOT EXISTS idx_ai_conv_user ON ai_conversation(user_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_ai_conv_user_status_updated ON ai_conversation(user_id, status, updated_at);
 
 -- ============================================================================
 -- 8. Daily Activity (Phase: Activity-Based Streak)
@@ -411,6 +418,107 @@ CREATE TABLE IF NOT EXISTS daily_activity (
 );
 CREATE INDEX IF NOT EXISTS idx_daily_activity_user_date ON daily_activity(user_id, activity_date);
 
+-- ============================================================================
+-- 9. Apartment Latest Deal (목록/시세 조회용 최신 거래 비정규화)
+-- ============================================================================
+
+-- 아파트별 최신 실거래 1건 (MOLIT 동기화 시 갱신, 재구축 배치로 보정)
+CREATE TABLE IF NOT EXISTS apartment_latest_deal (
+    apt_seq VARCHAR(20) PRIMARY KEY COMMENT '아파트코드',
+    deal_no BIGINT NOT NULL COMMENT '최신 거래번호',
+    deal_date DATE COMMENT '최신 거래일자',
+    deal_amount_num BIGINT COMMENT '최신 거래금액(만원)',
+    exclu_use_ar DECIMAL(7,2) COMMENT '전용면적(㎡)',
+    floor VARCHAR(3) COMMENT '층',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (apt_seq) REFERENCES apartment(apt_seq) ON DELETE CASCADE
+);
+CREATE INDEX IF NOT EXISTS idx_latest_deal_date ON apartment_latest_deal(deal_date);
+
+-- ============================================================================
+-- 10. Geocode Cache (주소 → 좌표 결과 캐시)
+-- ============================================================================
+
+-- 정규화 주소 기준 지오코딩 결과 (성공/실패 모두 저장, 실패는 retry_after 이후 재시도)
+CREATE TABLE IF NOT EXISTS geocode_cache (
+    address_key VARCHAR(255) PRIMARY KEY COMMENT '정규화 주소',
+    resolved BOOLEAN NOT NULL COMMENT '좌표 해석 성공 여부',
+    latitude DECIMAL(16, 13) COMMENT '위도',
+    longitude DECIMAL(16, 13) COMMENT '경도',
+    retry_after TIMESTAMP NULL COMMENT '실패 주소 재시도 가능 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================================================
+-- 11. Dream Home Progress (목표 XP 누적 원장)
+-- ============================================================================
+
+-- 드림홈별 누적 XP/단계 (EXP 이벤트 기록 시 증분 갱신, 검증 잡이 이벤트 리플레이로 보정)
+CREATE TABLE IF NOT EXISTS dream_home_progress (
+    dream_home_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    total_exp INT NOT NULL DEFAULT 0 COMMENT '목표 기준 누적 XP (0 미만 불가)',
+    current_phase INT NOT NULL DEFAULT 1 COMMENT '마지막 갱신 시점의 단계 (1-11)',
+    last_event_at TIMESTAMP NULL COMMENT '마지막 XP 이벤트 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (dream_home_id) REFERENCES dream_home(dream_home_id) ON DELETE CASCADE
+);
+
+-- ============================================================================
+-- 12. Collection Journey Snapshot (완성 컬렉션 여정 스냅샷)
+-- ============================================================================
+
+-- 완성된 컬렉션의 JourneyResponse 직렬화본 (첫 조회 시 생성, 이후 단건 조회로 응답)
+CREATE TABLE IF NOT EXISTS collection_journey_snapshot (
+    collection_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    schema_version INT NOT NULL COMMENT 'JourneyResponse 직렬화 형식 버전',
+    payload_json CLOB NOT NULL COMMENT '직렬화된 JourneyResponse',
+    etag VARCHAR(80) NOT NULL COMMENT 'payload 기반 ETag',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (collection_id) REFERENCES user_collection(collection_id) ON DELETE CASCADE
+);
+
+-- ============================================================================
+-- 13. Savings Daily Balance (드림홈 일별 저축 잔액 롤업)
+-- ============================================================================
+
+-- 드림홈/일자별 순입금과 마감 잔액 (저축 기록 시 증분 갱신, 백필 잡이 savings_history로 재구축)
+CREATE TABLE IF NOT EXISTS savings_daily_balance (
+    dream_home_id BIGINT NOT NULL,
+    balance_date DATE NOT NULL COMMENT '기준 일자 (KST)',
+    net_amount BIGINT NOT NULL DEFAULT 0 COMMENT '당일 순입금 (입금 - 출금)',
+    closing_balance BIGINT NOT NULL DEFAULT 0 COMMENT '당일 마감 잔액 (누적 순입금)',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (dream_home_id, balance_date),
+    FOREIGN KEY (dream_home_id) REFERENCES dream_home(dream_home_id) ON DELETE CASCADE
+);
+
+-- ============================================================================
+-- 14. User DSR Snapshot (최신 PRO DSR 결과)
+-- ============================================================================
+
+-- 사용자별 최신 PRO 시뮬레이션 결과 (시뮬레이션 시 덮어쓰기, 대시보드는 JSON 파싱 없이 조회)
+CREATE TABLE IF NOT EXISTS user_dsr_snapshot (
+    user_id BIGINT PRIMARY KEY,
+    history_id BIGINT NULL COMMENT '원본 dsr_calculation_history ID',
+    grade VARCHAR(20) NOT NULL COMMENT '등급 (SAFE/WARNING/RESTRICTED)',
+    current_dsr_percent DOUBLE NOT NULL COMMENT '현재 DSR (%)',
+    dsr_after_max_loan_percent DOUBLE NOT NULL COMMENT '최대 한도 대출 시 DSR (%)',
+    max_loan_amount BIGINT NOT NULL COMMENT '최대 대출 가능액 (원)',
+    annual_income BIGINT NOT NULL COMMENT '시뮬레이션 입력 연소득 (원)',
+    age_at_simulation INT NOT NULL COMMENT '시뮬레이션 시점 나이',
+    recognized_annual_income BIGINT NOT NULL COMMENT '청년 우대 반영 인정소득 (원)',
+    simulated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '시뮬레이션 시각',
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (user_id) REFERENCES `user`(user_id) ON DELETE CASCADE
+);
+
 -- ============================================================================
 -- End of Schema DDL
 -- ============================================================================
@@ -0,0 +1,82 @@
+package com.jipjung.project.ai;
+
+import com.jipjung.project.ai.AiAnalysisCache.AnalysisKey;
+import com.jipjung.project.ai.dto.AiAnalysisOutput;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiAnalysisCacheTest {
+
+    @Test
+    void amountBucket_roundsToTwoSignificantDigits() {
+        assertThat(AnalysisKey.amountBucket(4_520L)).isEqualTo(4_500L);
+        assertThat(AnalysisKey.amountBucket(4_550L)).isEqualTo(4_600L);
+        assertThat(AnalysisKey.amountBucket(1_250_000L)).isEqualTo(1_300_000L);
+        assertThat(AnalysisKey.amountBucket(999L)).isEqualTo(1_000L);
+    }
+
+    @Test
+    void amountBucket_keepsAmountsBelowOneHundred() {
+        assertThat(AnalysisKey.amountBucket(7L)).isEqualTo(7L);
+        assertThat(AnalysisKey.amountBucket(99L)).isEqualTo(99L);
+        assertThat(AnalysisKey.amountBucket(100L)).isEqualTo(100L);
+    }
+
+    @Test
+    void amountBucket_marksMissingOrNonPositiveAmounts() {
+        assertThat(AnalysisKey.amountBucket(null)).isEqualTo(-1L);
+        assertThat(AnalysisKey.amountBucket(0L)).isEqualTo(-1L);
+        assertThat(AnalysisKey.amountBucket(-4_500L)).isEqualTo(-1L);
+    }
+
+    @Test
+    void fingerprint_sameBucketSharesKey() {
+        AnalysisKey exact = new AnalysisKey("FOOD", 4_520L, "스타벅스 강남점", null);
+        AnalysisKey nearby = new AnalysisKey("FOOD", 4_480L, "스타벅스강남점", null);
+        AnalysisKey otherBucket = new AnalysisKey("FOOD", 4_600L, "스타벅스 강남점", null);
+
+        assertThat(exact.fingerprint()).isEqualTo(nearby.fingerprint());
+        assertThat(exact.fingerprint()).isNotEqualTo(otherBucket.fingerprint());
+    }
+
+    @Test
+    void put_storesPlaceholderScript() {
+        AiAnalysisCache cache = newCache();
+        AnalysisKey key = new AnalysisKey("FOOD", 4_730L, "스타벅스", null);
+
+        cache.put(key, output("{nickname}, 커피에 {amount}원? 또?"));
+
+        assertThat(cache.get(new AnalysisKey("FOOD", 4_680L, "스타벅스", null)))
+                .hasValueSatisfying(cached -> assertThat(cached.script()).isEqualTo("{nickname}, 커피에 {amount}원? 또?"));
+    }
+
+    @Test
+    void put_skipsScriptQuotingDigits() {
+        AiAnalysisCache cache = newCache();
+        AnalysisKey key = new AnalysisKey("FOOD", 4_730L, "스타벅스", null);
+
+        cache.put(key, output("커피에 4,730원? 또?"));
+
+        assertThat(cache.get(key)).isEmpty();
+    }
+
+    @Test
+    void isAmountNeutral() {
+        assertThat(AiAnalysisCache.isAmountNeutral("{nickname}, {amount}원이면 충분해")).isTrue();
+        assertThat(AiAnalysisCache.isAmountNeutral(null)).isTrue();
+        assertThat(AiAnalysisCache.isAmountNeutral("100만 원짜리 치킨?")).isFalse();
+    }
+
+    private static AiAnalysisOutput output(String script) {
+        return new AiAnalysisOutput("NORMAL", "보통", script, List.of(), null, null, null, null);
+    }
+
+    private static AiAnalysisCache newCache() {
+        return new AiAnalysisCache(Clock.systemUTC(), new SimpleMeterRegistry(), true, 30, 100);
+    }
+}
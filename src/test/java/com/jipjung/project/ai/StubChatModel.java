@@ -0,0 +1,139 @@
+package com.jipjung.project.ai;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용 결정적 ChatModel (Vertex AI 호출 없음)
+ * <p>
+ * 프롬프트 내용으로 호출 유형(판결/영수증 추출/분석)을 구분해 고정 JSON을 반환한다.
+ * 지연은 중앙값·p99로 지정하는 로그정규 분포(또는 고정값)를 따르고,
+ * errorRate 확률로 예외를 던져 모델 장애를 흉내 낸다.
+ * 스트리밍은 같은 JSON을 조각내어 지연 시간 동안 나눠 보낸다.
+ */
+@Slf4j
+public class StubChatModel implements ChatModel {
+
+    private static final double Z_99 = 2.326;
+    private static final int STREAM_CHUNKS = 8;
+
+    private static final String ANALYSIS_JSON = """
+            {"mood":"STRICT","moodLabel":"매우 엄격함","script":"부하 테스트 응답이야. 이 돈이면 적금 한 달 치인데?",
+             "suggestedExcuses":[{"id":"STRESS","text":"스트레스 비용","type":"DEFENSE"},
+             {"id":"NEED","text":"꼭 필요했어요","type":"DEFENSE"},{"id":"ADMIT","text":"인정합니다","type":"GIVE_UP"}]}
+            """;
+    private static final String EXTRACTION_JSON = """
+            {"mood":"NORMAL","moodLabel":"보통","script":"영수증 잘 봤어.","suggestedExcuses":[],
+             "extractedAmount":31000,"extractedStoreName":"치킨플러스","extractedCategory":"FOOD",
+             "extractedPaymentDate":"2025-12-10"}
+            """;
+    private static final String JUDGMENT_JSON = """
+            {"result":"REASONABLE","score":70,"comment":"이번만 봐줄게","mood":"NORMAL",
+             "script":"부하 테스트니까 봐준다.","animation":"NOD"}
+            """;
+
+    private final long medianLatencyMs;
+    private final double sigma;
+    private final double errorRate;
+
+    /**
+     * @param medianLatencyMs 지연 중앙값 (0이면 지연 없음)
+     * @param p99LatencyMs    지연 p99 (중앙값 이하이면 고정 지연)
+     * @param errorRate       실패 확률 (0.0 ~ 1.0)
+     */
+    public StubChatModel(long medianLatencyMs, long p99LatencyMs, double errorRate) {
+        this.medianLatencyMs = Math.max(0, medianLatencyMs);
+        this.sigma = medianLatencyMs > 0 && p99LatencyMs > medianLatencyMs
+                ? Math.log((double) p99LatencyMs / medianLatencyMs) / Z_99
+                : 0.0;
+        this.errorRate = Math.min(1.0, Math.max(0.0, errorRate));
+        log.warn("[AiStub] 스텁 ChatModel 사용 중 (median={}ms, p99={}ms, errorRate={})",
+                medianLatencyMs, p99LatencyMs, errorRate);
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        sleep(sampleLatencyMs());
+        if (shouldFail()) {
+            throw new IllegalStateException("Stub model failure (injected)");
+        }
+        return toResponse(cannedJson(prompt));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        String json = cannedJson(prompt);
+        long latencyMs = sampleLatencyMs();
+        List<String> chunks = split(json);
+        Duration interval = Duration.ofMillis(Math.max(1, latencyMs / chunks.size()));
+        if (shouldFail()) {
+            return Flux.<ChatResponse>error(new IllegalStateException("Stub model failure (injected)"))
+                    .delaySubscription(Duration.ofMillis(latencyMs), Schedulers.parallel());
+        }
+        return Flux.fromIterable(chunks)
+                .delayElements(interval, Schedulers.parallel())
+                .map(StubChatModel::toResponse);
+    }
+
+    private String cannedJson(Prompt prompt) {
+        String contents = prompt.getContents();
+        if (contents.contains("\"animation\"")) {
+            return JUDGMENT_JSON;
+        }
+        if (contents.contains("\"extractedAmount\"")) {
+            return EXTRACTION_JSON;
+        }
+        return ANALYSIS_JSON;
+    }
+
+    private long sampleLatencyMs() {
+        if (medianLatencyMs == 0) {
+            return 0;
+        }
+        if (sigma == 0.0) {
+            return medianLatencyMs;
+        }
+        double gaussian = ThreadLocalRandom.current().nextGaussian();
+        return Math.round(medianLatencyMs * Math.exp(sigma * gaussian));
+    }
+
+    private boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+
+    private static ChatResponse toResponse(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    private static List<String> split(String text) {
+        int size = Math.max(1, (text.length() + STREAM_CHUNKS - 1) / STREAM_CHUNKS);
+        List<String> chunks = new ArrayList<>(STREAM_CHUNKS);
+        for (int i = 0; i < text.length(); i += size) {
+            chunks.add(text.substring(i, Math.min(text.length(), i + size)));
+        }
+        return chunks;
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Stub model interrupted", e);
+        }
+    }
+}
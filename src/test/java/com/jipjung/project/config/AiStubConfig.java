@@ -0,0 +1,29 @@
+package com.jipjung.project.config;
+
+import com.jipjung.project.ai.StubChatModel;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 부하 테스트용 스텁 ChatModel 설정 (ai-stub 프로파일)
+ * <p>
+ * application-ai-stub.properties에서 Vertex AI 자동 구성을 끄고(spring.ai.model.chat=none)
+ * 이 빈으로 대체한다. 테스트 소스에만 있으므로 테스트 클래스패스로 실행한다.
+ * 예: ./mvnw spring-boot:test-run -Dspring-boot.run.profiles=h2,ai-stub
+ */
+@Configuration
+@Profile("ai-stub")
+public class AiStubConfig {
+
+    @Bean
+    public ChatModel stubChatModel(
+            @Value("${ai.stub.latency-median-ms:800}") long medianLatencyMs,
+            @Value("${ai.stub.latency-p99-ms:3000}") long p99LatencyMs,
+            @Value("${ai.stub.error-rate:0.0}") double errorRate
+    ) {
+        return new StubChatModel(medianLatencyMs, p99LatencyMs, errorRate);
+    }
+}
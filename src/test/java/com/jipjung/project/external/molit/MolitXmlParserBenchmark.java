@@ -0,0 +1,176 @@
+package com.jipjung.project.external.molit;
+
+import jakarta.xml.bind.JAXBContext;
+import jakarta.xml.bind.JAXBException;
+import jakarta.xml.bind.annotation.XmlAccessType;
+import jakarta.xml.bind.annotation.XmlAccessorType;
+import jakarta.xml.bind.annotation.XmlElement;
+import jakarta.xml.bind.annotation.XmlRootElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 국토부 실거래가 페이지 파싱 벤치마크 (StAX 스트리밍 vs 기존 JAXB 경로)
+ * <p>
+ * 픽스처(molit/deals-page.xml)의 item을 rows개로 복제한 페이지를 파싱한다.
+ * <ul>
+ *   <li>staxStream: 현재 경로 - 바이트 스트림에서 바로 {@link MolitXmlStreamParser}로 파싱</li>
+ *   <li>jaxbContextPerPage: 기존 경로 - 본문 String 생성 + 페이지마다 JAXBContext 생성</li>
+ *   <li>jaxbSharedContext: JAXBContext만 재사용했을 때의 기준선</li>
+ * </ul>
+ * surefire 대상이 아니므로 직접 실행한다 (할당량은 -prof gc의 gc.alloc.rate.norm 참고).
+ * <pre>
+ * ./mvnw test-compile
+ * # IDE에서 main 실행, 또는
+ * java -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     org.openjdk.jmh.Main MolitXmlParserBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MolitXmlParserBenchmark {
+
+    private static final String FIXTURE = "/molit/deals-page.xml";
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private byte[] page;
+    private JAXBContext sharedContext;
+
+    @Setup
+    public void setUp() throws IOException, JAXBException {
+        page = buildPage(rows);
+        sharedContext = JAXBContext.newInstance(LegacyResponse.class);
+    }
+
+    @Benchmark
+    public MolitApiResponse staxStream() throws XMLStreamException {
+        return MolitXmlStreamParser.parse(new ByteArrayInputStream(page));
+    }
+
+    @Benchmark
+    public Object jaxbContextPerPage() throws JAXBException {
+        String xml = new String(page, StandardCharsets.UTF_8).trim();
+        JAXBContext context = JAXBContext.newInstance(LegacyResponse.class);
+        return context.createUnmarshaller().unmarshal(new StringReader(xml));
+    }
+
+    @Benchmark
+    public Object jaxbSharedContext() throws JAXBException {
+        String xml = new String(page, StandardCharsets.UTF_8).trim();
+        return sharedContext.createUnmarshaller().unmarshal(new StringReader(xml));
+    }
+
+    /**
+     * 픽스처 페이지의 item 블록을 반복해 rows개 이상의 item을 가진 페이지를 만든다
+     */
+    private static byte[] buildPage(int rows) throws IOException {
+        String fixture;
+        try (InputStream in = MolitXmlParserBenchmark.class.getResourceAsStream(FIXTURE)) {
+            if (in == null) {
+                throw new IllegalStateException("fixture not found: " + FIXTURE);
+            }
+            fixture = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        int itemsStart = fixture.indexOf("<items>") + "<items>".length();
+        int itemsEnd = fixture.indexOf("</items>");
+        String itemBlock = fixture.substring(itemsStart, itemsEnd);
+        int itemsPerBlock = fixture.split("<item>", -1).length - 1;
+
+        StringBuilder items = new StringBuilder();
+        for (int count = 0; count < rows; count += itemsPerBlock) {
+            items.append(itemBlock);
+        }
+        return (fixture.substring(0, itemsStart) + items + fixture.substring(itemsEnd))
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MolitXmlParserBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    // =========================================================================
+    // 기존 JAXB 매핑 (운영 DTO에서 제거된 어노테이션을 기준선 측정용으로만 유지)
+    // =========================================================================
+
+    @XmlRootElement(name = "response")
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class LegacyResponse {
+        public LegacyHeader header;
+        public LegacyBody body;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class LegacyHeader {
+        public String resultCode;
+        public String resultMsg;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class LegacyBody {
+        public LegacyItems items;
+        public int totalCount;
+        public int numOfRows;
+        public int pageNo;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class LegacyItems {
+        @XmlElement(name = "item")
+        public List<LegacyItem> item;
+    }
+
+    @XmlAccessorType(XmlAccessType.FIELD)
+    public static class LegacyItem {
+        public String sggCd;
+        public String umdNm;
+        public String aptNm;
+        public String jibun;
+        public String excluUseAr;
+        public String dealYear;
+        public String dealMonth;
+        public String dealDay;
+        public String dealAmount;
+        public String floor;
+        public String buildYear;
+        public String aptDong;
+        public String cdealType;
+        public String cdealDay;
+        public String dealingGbn;
+        public String estateAgentSggNm;
+        public String rgstDate;
+        public String slerGbn;
+        public String buyerGbn;
+        public String landLeaseholdGbn;
+    }
+}
@@ -0,0 +1,83 @@
+package com.jipjung.project.external.molit;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MolitXmlStreamParserTest {
+
+    @Test
+    void parse_dealsPage() throws Exception {
+        MolitApiResponse response = parseFixture("deals-page.xml");
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getBody().getTotalCount()).isEqualTo(3);
+        assertThat(response.getBody().getNumOfRows()).isEqualTo(1000);
+        assertThat(response.getBody().getPageNo()).isEqualTo(1);
+
+        List<MolitDealResponse> items = response.getItems();
+        assertThat(items).hasSize(3);
+
+        MolitDealResponse first = items.get(0);
+        assertThat(first.getSggCd()).isEqualTo("11680");
+        assertThat(first.getUmdNm()).isEqualTo("대치동");
+        assertThat(first.getAptNm()).isEqualTo("래미안대치팰리스");
+        assertThat(first.getJibun()).isEqualTo("1027");
+        assertThat(first.getExcluUseArDecimal()).isEqualByComparingTo(new BigDecimal("84.97"));
+        assertThat(first.getDealAmountWon()).isEqualTo(3_850_000_000L);
+        assertThat(first.getDealYearInt()).isEqualTo(2024);
+        assertThat(first.getDealMonthInt()).isEqualTo(12);
+        assertThat(first.getDealDayInt()).isEqualTo(12);
+        assertThat(first.getBuildYearInt()).isEqualTo(2015);
+        assertThat(first.getFloor()).isEqualTo("15");
+    }
+
+    @Test
+    void parse_cdealTypeMarksCanceledDeal() throws Exception {
+        List<MolitDealResponse> items = parseFixture("deals-page.xml").getItems();
+
+        assertThat(items.get(0).isCanceledDeal()).isFalse();
+        assertThat(items.get(1).isCanceledDeal()).isTrue();
+        assertThat(items.get(1).getCdealType()).isEqualTo("O");
+        assertThat(items.get(1).getCdealDay()).isEqualTo("24.12.20");
+        assertThat(items.get(2).isCanceledDeal()).isFalse();
+    }
+
+    @Test
+    void parse_emptyItems() throws Exception {
+        MolitApiResponse response = parseFixture("empty-items.xml");
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getBody().getTotalCount()).isZero();
+        assertThat(response.getItems()).isEmpty();
+    }
+
+    @Test
+    void parse_resultCodeError() throws Exception {
+        MolitApiResponse response = parseFixture("result-code-error.xml");
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getErrorMessage()).isEqualTo("[10] INVALID_REQUEST_PARAMETER_ERROR");
+        assertThat(response.getItems()).isEmpty();
+    }
+
+    @Test
+    void parse_gatewayErrorEnvelope() throws Exception {
+        MolitApiResponse response = parseFixture("gateway-error.xml");
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getHeader().getResultCode()).isEqualTo("30");
+        assertThat(response.getErrorMessage()).isEqualTo("[30] SERVICE_KEY_IS_NOT_REGISTERED_ERROR");
+    }
+
+    private static MolitApiResponse parseFixture(String name) throws Exception {
+        try (InputStream in = MolitXmlStreamParserTest.class.getResourceAsStream("/molit/" + name)) {
+            assertThat(in).as("fixture %s", name).isNotNull();
+            return MolitXmlStreamParser.parse(in);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.jipjung.project.repository;
+
+import com.jipjung.project.repository.dto.JourneyTimelineRow;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저축 여정 타임라인 행 매핑 벤치마크 (constructor resultMap record vs HashMap 행 + 수동 변환)
+ * <p>
+ * H2 인메모리 DB에 이벤트 rows건(기본 5,000건)의 여정을 만들고 같은 결과 집합을 두 방식으로 읽는다.
+ * <ul>
+ *   <li>typedRows: 현재 경로 - JourneyTimelineRowMap으로 {@link JourneyTimelineRow}에 바로 매핑</li>
+ *   <li>mapRowsThenConvert: 기존 경로 - resultType="map" 행을 getLong/getString 등으로 변환</li>
+ * </ul>
+ * 지연은 결과로, 요청당 할당량은 -prof gc의 gc.alloc.rate.norm으로 비교한다.
+ * surefire 대상이 아니므로 main 또는 org.openjdk.jmh.Main으로 직접 실행한다.
+ * <pre>
+ * java -cp "target/test-classes:target/classes:$(./mvnw -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *     org.openjdk.jmh.Main JourneyTimelineMappingBenchmark -prof gc
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JourneyTimelineMappingBenchmark {
+
+    private static final String MAPPER = "benchmark/JourneyTimelineBenchmarkMapper.xml";
+    private static final String NAMESPACE = "benchmark.JourneyTimeline.";
+    private static final String JDBC_URL =
+            "jdbc:h2:mem:journey_bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Param({"5000"})
+    public int rows;
+
+    private UnpooledDataSource dataSource;
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        dataSource = new UnpooledDataSource("org.h2.Driver", JDBC_URL, "sa", "");
+        createJourney(rows);
+
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        try (InputStream in = Resources.getResourceAsStream(MAPPER)) {
+            new XMLMapperBuilder(in, configuration, MAPPER, configuration.getSqlFragments()).parse();
+        }
+        sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE journey_event");
+        }
+    }
+
+    @Benchmark
+    public List<JourneyTimelineRow> typedRows() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            return session.selectList(NAMESPACE + "selectRows");
+        }
+    }
+
+    @Benchmark
+    public List<JourneyTimelineRow> mapRowsThenConvert() {
+        try (SqlSession session = sqlSessionFactory.openSession()) {
+            List<Map<String, Object>> maps = session.selectList(NAMESPACE + "selectMaps");
+            List<JourneyTimelineRow> converted = new ArrayList<>(maps.size());
+            for (Map<String, Object> map : maps) {
+                converted.add(LegacyRowConverter.fromMap(map));
+            }
+            return converted;
+        }
+    }
+
+    /**
+     * 저축 입출금 / AI 판결 / 일일 활동 / 마일스톤 보상이 섞인 여정 생성
+     */
+    private void createJourney(int eventCount) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS journey_event");
+                statement.execute("""
+                        CREATE TABLE journey_event (
+                            event_id BIGINT PRIMARY KEY,
+                            event_type VARCHAR(40) NOT NULL,
+                            event_at TIMESTAMP NOT NULL,
+                            amount BIGINT,
+                            exp_change INT,
+                            memo VARCHAR(200),
+                            judgment_result VARCHAR(20),
+                            judgment_score INT,
+                            activity_type VARCHAR(20),
+                            milestone_days INT
+                        )""");
+            }
+
+            LocalDateTime startAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO journey_event VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                for (int i = 0; i < eventCount; i++) {
+                    long eventId = i + 1L;
+                    insert.setLong(1, eventId);
+                    insert.setTimestamp(3, Timestamp.valueOf(startAt.plusHours(i * 3L)));
+                    insert.setNull(4, Types.BIGINT);
+                    insert.setNull(5, Types.INTEGER);
+                    insert.setNull(6, Types.VARCHAR);
+                    insert.setNull(7, Types.VARCHAR);
+                    insert.setNull(8, Types.INTEGER);
+                    insert.setNull(9, Types.VARCHAR);
+                    insert.setNull(10, Types.INTEGER);
+                    switch (i % 5) {
+                        case 0, 1 -> {
+                            insert.setString(2, i % 5 == 0 ? "SAVINGS_DEPOSIT" : "SAVINGS_WITHDRAW");
+                            insert.setLong(4, 10_000L * (1 + i % 30));
+                            insert.setString(6, "저축 메모 " + eventId);
+                        }
+                        case 2 -> {
+                            insert.setString(2, "AI_JUDGMENT");
+                            insert.setInt(5, i % 2 == 0 ? 10 : -5);
+                            insert.setString(7, i % 2 == 0 ? "REASONABLE" : "WASTE");
+                            insert.setInt(8, i % 2 == 0 ? 85 : 20);
+                        }
+                        case 3 -> {
+                            insert.setString(2, "STREAK_SAVINGS");
+                            insert.setInt(5, 5);
+                            insert.setString(9, "SAVINGS");
+                        }
+                        default -> {
+                            insert.setString(2, "STREAK_MILESTONE");
+                            insert.setInt(5, 50);
+                            insert.setInt(10, 7 * (1 + i % 4));
+                        }
+                    }
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JourneyTimelineMappingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * 기존 HashMap 행 변환 (제거된 JourneyEvent.fromMap 헬퍼와 같은 방식)
+     */
+    private static final class LegacyRowConverter {
+
+        private static JourneyTimelineRow fromMap(Map<String, Object> map) {
+            return new JourneyTimelineRow(
+                    getLong(map, "event_id"),
+                    getString(map, "event_type"),
+                    getLocalDateTime(map, "event_at"),
+                    getLong(map, "amount"),
+                    getInt(map, "exp_change"),
+                    getString(map, "memo"),
+                    getString(map, "judgment_result"),
+                    getInt(map, "judgment_score"),
+                    getString(map, "activity_type"),
+                    getInt(map, "milestone_days")
+            );
+        }
+
+        private static Long getLong(Map<String, Object> map, String key) {
+            Object val = map.get(key);
+            if (val == null) return null;
+            if (val instanceof Long l) return l;
+            if (val instanceof Number n) return n.longValue();
+            return null;
+        }
+
+        private static String getString(Map<String, Object> map, String key) {
+            Object val = map.get(key);
+            return val != null ? val.toString() : null;
+        }
+
+        private static LocalDateTime getLocalDateTime(Map<String, Object> map, String key) {
+            Object val = map.get(key);
+            if (val instanceof LocalDateTime ldt) return ldt;
+            if (val instanceof Timestamp ts) return ts.toLocalDateTime();
+            return null;
+        }
+
+        private static Integer getInt(Map<String, Object> map, String key) {
+            Object val = map.get(key);
+            if (val == null) return null;
+            if (val instanceof Integer i) return i;
+            if (val instanceof Number n) return n.intValue();
+            return null;
+        }
+    }
+}
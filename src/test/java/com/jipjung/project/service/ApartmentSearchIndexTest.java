@@ -0,0 +1,163 @@
+package com.jipjung.project.service;
+
+import com.jipjung.project.domain.Apartment;
+import com.jipjung.project.repository.ApartmentMapper;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.session.ResultHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ApartmentSearchIndexTest {
+
+    private ApartmentMapper apartmentMapper;
+    private ApartmentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        apartmentMapper = mock(ApartmentMapper.class);
+        index = new ApartmentSearchIndex(apartmentMapper);
+        ReflectionTestUtils.setField(index, "enabled", true);
+        ReflectionTestUtils.setField(index, "maxCandidates", 1000);
+    }
+
+    @Test
+    void findCandidates_beforeLoad_fallsBackToSql() {
+        assertThat(index.isReady()).isFalse();
+        assertThat(index.findCandidates("래미안")).isEmpty();
+    }
+
+    @Test
+    void findCandidates_matchesNameDongAndRoadName() {
+        load(
+                apartment("A1", "래미안대치팰리스", "대치동", "삼성로"),
+                apartment("A2", "은마", "대치동", "삼성로"),
+                apartment("A3", "래미안블레스티지", "개포동", "개포로")
+        );
+
+        assertThat(index.findCandidates("래미안")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactlyInAnyOrder("A1", "A3"));
+        assertThat(index.findCandidates("대치동")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactlyInAnyOrder("A1", "A2"));
+        assertThat(index.findCandidates("개포로")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactly("A3"));
+    }
+
+    @Test
+    void findCandidates_ignoresWhitespaceAndCase() {
+        load(apartment("A1", "SK VIEW 대치", "대치동", null));
+
+        assertThat(index.findCandidates("sk view")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactly("A1"));
+        assertThat(index.findCandidates("skview대치")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactly("A1"));
+    }
+
+    @Test
+    void findCandidates_chosungQuery() {
+        load(
+                apartment("A1", "래미안대치팰리스", "대치동", null),
+                apartment("A2", "은마", "대치동", null)
+        );
+
+        assertThat(index.findCandidates("ㄹㅁㅇ")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactly("A1"));
+        assertThat(index.findCandidates("ㅇㅁ")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactly("A2"));
+    }
+
+    @Test
+    void findCandidates_requiresContiguousMatchNotJustSharedBigrams() {
+        // "나가나"의 bigram(나가, 가나)은 모두 있지만 부분 문자열은 아니다
+        load(apartment("A1", "가나다나가", "대치동", null));
+
+        assertThat(index.findCandidates("나가나")).hasValueSatisfying(
+                candidates -> assertThat(candidates).isEmpty());
+    }
+
+    @Test
+    void findCandidates_unknownGramReturnsEmptyList() {
+        load(apartment("A1", "은마", "대치동", null));
+
+        assertThat(index.findCandidates("타워팰리스")).hasValueSatisfying(
+                candidates -> assertThat(candidates).isEmpty());
+    }
+
+    @Test
+    void findCandidates_singleCharacterFallsBackToSql() {
+        load(apartment("A1", "은마", "대치동", null));
+
+        assertThat(index.findCandidates("은")).isEmpty();
+    }
+
+    @Test
+    void findCandidates_tooManyCandidatesFallsBackToSql() {
+        ReflectionTestUtils.setField(index, "maxCandidates", 1);
+        load(
+                apartment("A1", "래미안대치팰리스", "대치동", null),
+                apartment("A2", "래미안블레스티지", "개포동", null)
+        );
+
+        assertThat(index.findCandidates("래미안")).isEmpty();
+    }
+
+    @Test
+    void upsert_newApartmentIsSearchableByRoadName() {
+        load(apartment("A1", "은마", "대치동", null));
+
+        index.upsert("A2", "래미안대치팰리스", "대치동", "삼성로");
+
+        assertThat(index.findCandidates("삼성로")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactly("A2"));
+    }
+
+    @Test
+    void upsert_nullRoadNameKeepsPreviousRoadName() {
+        load(apartment("A1", "은마", "대치동", "삼성로"));
+
+        index.upsert("A1", "은마", "대치동", null);
+
+        assertThat(index.findCandidates("삼성로")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactly("A1"));
+    }
+
+    @Test
+    void upsert_renameRemovesOldGrams() {
+        load(apartment("A1", "은마", "대치동", null));
+
+        index.upsert("A1", "래미안", "대치동", null);
+
+        assertThat(index.findCandidates("은마")).hasValueSatisfying(
+                candidates -> assertThat(candidates).isEmpty());
+        assertThat(index.findCandidates("ㄹㅁ")).hasValueSatisfying(
+                candidates -> assertThat(candidates).containsExactly("A1"));
+    }
+
+    private void load(Apartment... apartments) {
+        doAnswer(invocation -> {
+            ResultHandler<Apartment> handler = invocation.getArgument(0);
+            DefaultResultContext<Apartment> context = new DefaultResultContext<>();
+            for (Apartment apartment : apartments) {
+                context.nextResultObject(apartment);
+                handler.handleResult(context);
+            }
+            return null;
+        }).when(apartmentMapper).findAllForSearchIndex(any());
+        index.rebuild();
+        assertThat(index.isReady()).isTrue();
+    }
+
+    private static Apartment apartment(String aptSeq, String aptNm, String umdNm, String roadNm) {
+        return Apartment.builder()
+                .aptSeq(aptSeq)
+                .aptNm(aptNm)
+                .umdNm(umdNm)
+                .roadNm(roadNm)
+                .build();
+    }
+}